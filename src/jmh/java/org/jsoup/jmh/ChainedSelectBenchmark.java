@@ -0,0 +1,71 @@
+package org.jsoup.jmh;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Selects within the results of a previous select (e.g. {@code doc.select("div").select("a")}), on a generated document
+ of nested divs, where many of the intermediate roots contain each other. Also runs {@code Elements.not()} over those
+ results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChainedSelectBenchmark {
+    /** The number of divs, arranged as chains of nested divs of this depth. */
+    @Param({"20"})
+    public int depth;
+
+    @Param({"1000", "20000"})
+    public int divs;
+
+    private Document doc;
+    private Elements roots;
+
+    @Setup public void setup() {
+        StringBuilder html = new StringBuilder();
+        for (int i = 0; i < divs / depth; i++) {
+            for (int d = 0; d < depth; d++) {
+                html.append("<div class=d").append(d).append("><a href=#").append(i).append('-').append(d).append(">Link</a>");
+            }
+            for (int d = 0; d < depth; d++) {
+                html.append("</div>");
+            }
+        }
+        doc = Jsoup.parse(html.toString());
+        roots = doc.select("div");
+    }
+
+    @Benchmark public Elements selectChained() {
+        return doc.select("div").select("a");
+    }
+
+    @Benchmark public Elements selectFromRoots() {
+        return roots.select("a[href]");
+    }
+
+    @Benchmark public Elements selectDescendantFromRoots() {
+        return roots.select("div a");
+    }
+
+    @Benchmark public Elements not() {
+        return roots.not(".d1");
+    }
+}
@@ -0,0 +1,58 @@
+package org.jsoup.jmh;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Clones each parsed corpus document, as when using a parsed document as a template: {@code fillTemplate} clones it,
+ changes the text and an attribute of twenty of its links, and serializes the clone. Optionally with a frozen source.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CloneBenchmark {
+    @Param({"smh-biz-article-1.html.gz", "news-com-au-home.html.gz"})
+    public String file;
+
+    @Param({"false", "true"})
+    public boolean frozen;
+
+    private Document doc;
+
+    @Setup public void setup() {
+        doc = Corpus.document(file);
+        if (frozen)
+            doc.freeze();
+    }
+
+    @Benchmark public Document cloneDocument() {
+        return doc.clone();
+    }
+
+    @Benchmark public String fillTemplate() {
+        Document page = doc.clone();
+        Elements links = page.select("a[href]");
+        for (int i = 0; i < 20 && i < links.size(); i++) {
+            Element link = links.get(i);
+            link.text("Link " + i).attr("href", "/page/" + i);
+        }
+        return page.html();
+    }
+}
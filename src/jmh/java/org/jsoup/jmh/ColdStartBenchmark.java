@@ -0,0 +1,31 @@
+package org.jsoup.jmh;
+
+import org.jsoup.Jsoup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Times the first parse and output in a fresh JVM, which includes loading and initializing the parser and entity classes.
+ Each fork measures a single call.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdStartBenchmark {
+    @Benchmark public String parse() {
+        return Jsoup.parse("<title>Hello</title><p class=greeting>Hello, <b>world</b></p>").outerHtml();
+    }
+
+    @Benchmark public String parseWithEntities() {
+        return Jsoup.parse("<title>Hello</title><p class=greeting>Hello &amp; welcome &copy; 2022&hellip;</p>").outerHtml();
+    }
+}
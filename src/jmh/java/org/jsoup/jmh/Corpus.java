@@ -0,0 +1,60 @@
+package org.jsoup.jmh;
+
+import org.jsoup.Jsoup;
+import org.jsoup.helper.DataUtil;
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.Parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+/**
+ Loads the benchmark inputs from the test corpus in {@code src/test/resources/htmltests}. Gzipped files are inflated,
+ and the bytes are decoded with the charset that jsoup detects for them, so that the benchmarks time parsing and not
+ charset sniffing.
+ */
+final class Corpus {
+    private Corpus() {}
+
+    static final String BaseUri = "https://example.com/";
+
+    /** Reads the named corpus file (e.g. {@code google-ipod.html.gz}) as bytes, inflating if gzipped. */
+    static byte[] bytes(String name) {
+        String path = "/htmltests/" + name;
+        try (InputStream resource = Corpus.class.getResourceAsStream(path)) {
+            if (resource == null)
+                throw new IllegalArgumentException("Corpus file not found: " + path);
+            InputStream in = name.endsWith(".gz") ? new GZIPInputStream(resource) : resource;
+            ByteBuffer buffer = DataUtil.readToByteBuffer(in, 0);
+            return Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.arrayOffset() + buffer.limit());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Reads the named corpus file as a String, decoded with its declared or detected charset. */
+    static String html(String name) {
+        byte[] bytes = bytes(name);
+        Charset charset = document(bytes, Parser.htmlParser()).charset();
+        return new String(bytes, charset);
+    }
+
+    /** Parses the named corpus file as HTML. */
+    static Document document(String name) {
+        return document(bytes(name), Parser.htmlParser());
+    }
+
+    private static Document document(byte[] bytes, Parser parser) {
+        try {
+            return Jsoup.parse(new ByteArrayInputStream(bytes), null, BaseUri, parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.jsoup.jmh;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Selects with descendant combinators on a generated deep document: chains of nested divs (one chain in ten within a
+ {@code div.content}), with a paragraph and a link at each level. Most candidate links don't have the ancestors that
+ the query requires, so each rejection walked all of its ancestors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeepSelectBenchmark {
+    /** The depth of each chain of nested divs. */
+    @Param({"20", "200"})
+    public int depth;
+
+    @Param({"div.content a[href]", "section p a", "div:has(section a)"})
+    public String query;
+
+    private Document doc;
+
+    @Setup public void setup() {
+        int chains = 4000 / depth;
+        StringBuilder html = new StringBuilder();
+        for (int i = 0; i < chains; i++) {
+            html.append(i % 10 == 0 ? "<div class=content>" : "<div>");
+            for (int d = 0; d < depth; d++) {
+                html.append("<div><p>Para <a href=#").append(i).append('-').append(d).append(">Link</a></p>");
+            }
+            for (int d = 0; d <= depth; d++) {
+                html.append("</div>");
+            }
+        }
+        doc = Jsoup.parse(html.toString());
+    }
+
+    @Benchmark public Elements select() {
+        return doc.select(query);
+    }
+
+    @Benchmark public Element selectFirst() {
+        return doc.selectFirst(query);
+    }
+}
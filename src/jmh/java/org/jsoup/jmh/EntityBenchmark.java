@@ -0,0 +1,55 @@
+package org.jsoup.jmh;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Entities;
+import org.jsoup.parser.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Parses and unescapes generated text that is dense with named character references: base entities with and without the
+ semicolon, extended and multi-codepoint entities, and names that are not entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityBenchmark {
+    private static final String[] refs = {"&amp;", "&lt;", "&nbsp;", "&copy", "&eacute;", "&rarr;", "&NotNestedLessLess;",
+        "&nGt;", "&frac34;", "&hellip;", "&mdash;", "&notanentity;", "&amp", "&sup2;"};
+
+    private String html;
+    private String text;
+
+    @Setup public void setup() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            sb.append("<p title=\"a").append(refs[i % refs.length]).append("b\">");
+            for (int j = 0; j < 10; j++)
+                sb.append("x").append(refs[(i + j) % refs.length]);
+            sb.append("</p>\n");
+        }
+        html = sb.toString();
+        text = html.replace('<', ' ');
+    }
+
+    @Benchmark public Document parse() {
+        return Parser.parse(html, Corpus.BaseUri);
+    }
+
+    @Benchmark public String unescape() {
+        return Entities.unescape(text);
+    }
+}
@@ -0,0 +1,55 @@
+package org.jsoup.jmh;
+
+import org.jsoup.helper.W3CDom;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Cleaner;
+import org.jsoup.safety.Safelist;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Serializes, cleans, and converts each parsed corpus document to a W3C DOM.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutputBenchmark {
+    @Param({"google-ipod.html.gz", "baidu-cn-home.html", "news-com-au-home.html.gz", "large.html"})
+    public String file;
+
+    private Document doc;
+    private Cleaner cleaner;
+    private W3CDom w3cDom;
+
+    @Setup public void setup() {
+        doc = Corpus.document(file);
+        cleaner = new Cleaner(Safelist.relaxed());
+        w3cDom = new W3CDom();
+    }
+
+    @Benchmark public String outerHtml() {
+        return doc.outerHtml();
+    }
+
+    @Benchmark public Document clean() {
+        return cleaner.clean(doc);
+    }
+
+    @Benchmark public org.w3c.dom.Document fromJsoup() {
+        return w3cDom.fromJsoup(doc);
+    }
+}
@@ -0,0 +1,53 @@
+package org.jsoup.jmh;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Parses each corpus file with the HTML and the XML parser, and with an HTML parser that reuses its buffers between
+ parses. The input is decoded to a String up front, so this measures tokenising and tree building only. Run with
+ {@code -prof gc} (the default in the jmh profile) to report the bytes allocated per parse, as gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+    @Param({"google-ipod.html.gz", "baidu-cn-home.html", "news-com-au-home.html.gz", "yahoo-jp.html.gz", "large.html"})
+    public String file;
+
+    private String html;
+    private Parser reusing;
+
+    @Setup public void setup() {
+        html = Corpus.html(file);
+        reusing = Parser.htmlParser().reuse(true);
+    }
+
+    @Benchmark public Document parseHtml() {
+        return Parser.parse(html, Corpus.BaseUri);
+    }
+
+    @Benchmark public Document parseHtmlReused() {
+        return reusing.parseInput(html, Corpus.BaseUri);
+    }
+
+    @Benchmark public Document parseXml() {
+        return Parser.xmlParser().parseInput(html, Corpus.BaseUri);
+    }
+}
@@ -0,0 +1,55 @@
+package org.jsoup.jmh;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.Parser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Parses generated HTML that is mostly long runs of text, attribute values, and script, so that the time is dominated by
+ the CharacterReader scans for the next significant character.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScanBenchmark {
+    /** The length of each text run. */
+    @Param({"64", "1024"})
+    public int runLength;
+
+    private String html;
+
+    @Setup public void setup() {
+        String words = "Lorem ipsum dolor sit amet, consectetur adipiscing elit; sed do eiusmod tempor incididunt. ";
+        StringBuilder run = new StringBuilder();
+        while (run.length() < runLength)
+            run.append(words);
+        run.setLength(runLength);
+
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 1024 * 1024) {
+            sb.append("<div title=\"").append(run, 0, Math.min(runLength, 200)).append("\">")
+                .append("<p>").append(run).append("</p>")
+                .append("<script>var s = '").append(run).append("';</script></div>\n");
+        }
+        html = sb.toString();
+    }
+
+    @Benchmark public Document parse() {
+        return Parser.parse(html, Corpus.BaseUri);
+    }
+}
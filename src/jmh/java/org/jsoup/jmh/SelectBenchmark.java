@@ -0,0 +1,49 @@
+package org.jsoup.jmh;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Runs a spread of CSS queries (including query parsing) against each parsed corpus document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectBenchmark {
+    @Param({"google-ipod.html.gz", "baidu-cn-home.html", "news-com-au-home.html.gz", "large.html"})
+    public String file;
+
+    @Param({"a[href]", "div > p", "div a", "ul li a", "td:contains(ipod)", "div:contains(price)", "li:matches(\\d+)", "[class~=(?i)head]", "body :has(img)"})
+    public String query;
+
+    private Document doc;
+
+    @Setup public void setup() {
+        doc = Corpus.document(file);
+    }
+
+    @Benchmark public Elements select() {
+        return doc.select(query);
+    }
+
+    @Benchmark public Element selectFirst() {
+        return doc.selectFirst(query);
+    }
+}
@@ -0,0 +1,63 @@
+package org.jsoup.jmh;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.Selector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ Extracts a set of rules (compiled queries) from each corpus document: with a select per rule, or with one
+ Selector.selectMany traversal for all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectManyBenchmark {
+    private static final String[] Rules = {"title", "meta[name=description]", "meta[property^=og:]", "link[rel=canonical]",
+        "a[href]", "a[href^=http]", "a[rel=nofollow]", "img[src]", "img[alt]", "h1", "h2", "h3", "p", "li a", "nav a",
+        "header a", "footer a", "div.content p", "article p", "table td", "ul > li", "ol > li", "form input", "form",
+        "script[src]", "link[rel=stylesheet]", "span.date", "time", "[itemprop]", "[data-id]", "div > a img",
+        "iframe", "video", "source", "button", "label", "select option", "blockquote", "pre", "td:contains(ipod)"};
+
+    @Param({"google-ipod.html.gz", "news-com-au-home.html.gz"})
+    public String file;
+
+    private Document doc;
+    private Map<String, Evaluator> rules;
+
+    @Setup public void setup() {
+        doc = Corpus.document(file);
+        rules = new LinkedHashMap<>();
+        for (String rule : Rules)
+            rules.put(rule, Selector.compile(rule));
+    }
+
+    @Benchmark public Map<String, Elements> selectEach() {
+        Map<String, Elements> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Evaluator> rule : rules.entrySet())
+            results.put(rule.getKey(), doc.select(rule.getValue()));
+        return results;
+    }
+
+    @Benchmark public Map<String, Elements> selectMany() {
+        return Selector.selectMany(rules, doc);
+    }
+}
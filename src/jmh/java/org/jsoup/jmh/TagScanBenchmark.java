@@ -0,0 +1,61 @@
+package org.jsoup.jmh;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.TagScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ Extracts the links and Open Graph properties of each corpus document, as a crawler would: by parsing and selecting,
+ or by scanning the start tags with a TagScanner.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagScanBenchmark {
+    @Param({"google-ipod.html.gz", "news-com-au-home.html.gz", "nyt-article-1.html.gz"})
+    public String file;
+
+    private String html;
+
+    @Setup public void setup() {
+        html = Corpus.html(file);
+    }
+
+    @Benchmark public List<String> parseAndSelect() {
+        Document doc = Jsoup.parse(html, Corpus.BaseUri);
+        List<String> found = new ArrayList<>();
+        for (Element el : doc.select("a[href]"))
+            found.add(el.attr("href"));
+        for (Element el : doc.select("meta[property^=og:]"))
+            found.add(el.attr("content"));
+        return found;
+    }
+
+    @Benchmark public List<String> scan() {
+        List<String> found = new ArrayList<>();
+        new TagScanner()
+            .on("a[href]", (name, attributes) -> found.add(attributes.get("href")))
+            .on("meta[property^=og:]", (name, attributes) -> found.add(attributes.get("content")))
+            .scan(html);
+        return found;
+    }
+}
@@ -0,0 +1,72 @@
+package org.jsoup.jmh;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ Extracts normalized and whole text from each parsed corpus document; and the text of each of its elements, and
+ selects with {@code :contains}, optionally with the document's text cache. The cache is cleared before each
+ invocation, so that includes building it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextBenchmark {
+    @Param({"google-ipod.html.gz", "baidu-cn-home.html", "news-com-au-home.html.gz", "large.html"})
+    public String file;
+
+    @Param({"false", "true"})
+    public boolean cacheText;
+
+    private Document doc;
+    private Elements elements;
+
+    @Setup public void setup() {
+        doc = Corpus.document(file).cacheText(cacheText);
+        elements = doc.getAllElements();
+    }
+
+    private void clearCache() {
+        if (cacheText)
+            doc.cacheText(false).cacheText(true);
+    }
+
+    @Benchmark public String text() {
+        clearCache();
+        return doc.text();
+    }
+
+    @Benchmark public int elementTexts() {
+        clearCache();
+        int len = 0;
+        for (Element el : elements)
+            len += el.text().length();
+        return len;
+    }
+
+    @Benchmark public Elements selectContains() {
+        clearCache();
+        return doc.select(":contains(the)");
+    }
+
+    @Benchmark public String wholeText() {
+        return doc.wholeText();
+    }
+}
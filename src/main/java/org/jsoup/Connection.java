@@ -14,6 +14,8 @@ import java.net.URL;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  The Connection interface is a convenient HTTP client and session object to fetch content from the web, and parse them
@@ -349,6 +351,64 @@ public interface Connection {
      */
     Response execute() throws IOException;
 
+    /**
+     Execute the request asynchronously, on this connection's {@link #executor(Executor) executor}. The returned future
+     completes with the response, or exceptionally with the same exception that {@link #execute()} would throw (e.g.
+     an {@link HttpStatusException}). Redirects, cookies, the max body size, and charset handling are as for
+     {@link #execute()}.
+     <p>A Connection can only execute one request at a time. To run several requests concurrently, use a
+     {@link #newRequest()} for each.</p>
+     <p>On Android, this requires API level 24+, for {@link CompletableFuture}.</p>
+     @return a future for the response
+     @throws UnsupportedOperationException if this Connection implementation doesn't support asynchronous requests
+     @see #getAsync()
+     @since 1.15.2
+     */
+    default CompletableFuture<Response> executeAsync() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     Execute the request as a GET asynchronously, and parse the result. As with {@link #executeAsync()}, this requires
+     API level 24+ on Android.
+     @return a future for the parsed Document, which completes exceptionally with the same exception that
+     {@link #get()} would throw
+     @throws UnsupportedOperationException if this Connection implementation doesn't support asynchronous requests
+     @see #executeAsync()
+     @since 1.15.2
+     */
+    default CompletableFuture<Document> getAsync() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     Execute the request as a POST asynchronously, and parse the result. As with {@link #executeAsync()}, this requires
+     API level 24+ on Android.
+     @return a future for the parsed Document, which completes exceptionally with the same exception that
+     {@link #post()} would throw
+     @throws UnsupportedOperationException if this Connection implementation doesn't support asynchronous requests
+     @see #executeAsync()
+     @since 1.15.2
+     */
+    default CompletableFuture<Document> postAsync() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     Set the executor that asynchronous requests (e.g. {@link #getAsync()}) are run on. The executor is retained by
+     {@link #newRequest()}s from this session.
+     <p>If not set, a shared default executor is used: on a Java runtime with virtual threads, each request runs on a
+     new virtual thread; otherwise on an unbounded pool of daemon threads.</p>
+     <p>On Android, asynchronous requests require API level 24+.</p>
+     @param executor the executor to run requests on
+     @return this Connection, for chaining
+     @throws UnsupportedOperationException if this Connection implementation doesn't support asynchronous requests
+     @since 1.15.2
+     */
+    default Connection executor(Executor executor) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Get the request object associated with this connection
      * @return request
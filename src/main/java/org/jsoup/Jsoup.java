@@ -12,6 +12,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
 
 /**
  The core public access point to the jsoup functionality.
@@ -214,6 +215,38 @@ Connection con3 = session.newRequest();
         return DataUtil.load(in, charsetName, baseUri, parser);
     }
 
+    /**
+     Parse the contents of a byte buffer, such as a memory-mapped file, as HTML. The bytes are decoded directly from the
+     buffer, from its position to its limit; the buffer's position is not changed.
+
+     @param byteData    the bytes to parse
+     @param charsetName (optional) character set of the content. Set to {@code null} to determine from a BOM, or an
+     {@code http-equiv} meta tag, if present, or fall back to {@code UTF-8} (which is often safe to do).
+     @param baseUri     The URL where the HTML was retrieved from, to resolve relative links against.
+     @return sane HTML
+     @see org.jsoup.helper.DataUtil#load(java.nio.file.Path, String, String)
+     @since 1.15.2
+     */
+    public static Document parse(ByteBuffer byteData, @Nullable String charsetName, String baseUri) {
+        return DataUtil.parseByteData(byteData, charsetName, baseUri, Parser.htmlParser());
+    }
+
+    /**
+     Parse the contents of a byte buffer to a Document. You can provide an alternate parser, such as a simple XML
+     (non-HTML) parser.
+
+     @param byteData    the bytes to parse
+     @param charsetName (optional) character set of the content. Set to {@code null} to determine from a BOM, or an
+     {@code http-equiv} meta tag, if present, or fall back to {@code UTF-8} (which is often safe to do).
+     @param baseUri     The URL where the HTML was retrieved from, to resolve relative links against.
+     @param parser alternate {@link Parser#xmlParser() parser} to use.
+     @return sane HTML
+     @since 1.15.2
+     */
+    public static Document parse(ByteBuffer byteData, @Nullable String charsetName, String baseUri, Parser parser) {
+        return DataUtil.parseByteData(byteData, charsetName, baseUri, parser);
+    }
+
     /**
      Parse a fragment of HTML, with the assumption that it forms the {@code body} of the HTML.
 
@@ -11,6 +11,10 @@ public abstract class ChangeNotifyingArrayList<E> extends ArrayList<E> {
         super(initialCapacity);
     }
 
+    public ChangeNotifyingArrayList(Collection<? extends E> c) {
+        super(c);
+    }
+
     public abstract void onContentsChanged();
 
     @Override
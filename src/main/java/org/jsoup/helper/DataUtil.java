@@ -13,6 +13,7 @@ import org.jsoup.parser.Parser;
 import org.jsoup.select.Elements;
 
 import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.CharArrayReader;
 import java.io.File;
@@ -21,11 +22,18 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.IllegalCharsetNameException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Locale;
 import java.util.Random;
 import java.util.regex.Matcher;
@@ -95,6 +103,67 @@ public final class DataUtil {
         return parseInputStream(stream, charsetName, baseUri, parser);
     }
 
+    /**
+     Loads and parses a file to a Document, with the HtmlParser. The file is memory-mapped and decoded directly from the
+     mapped buffer, which avoids copying its bytes through an input stream. Files that are compressed with gzip (and end
+     in {@code .gz} or {@code .z}) are read as a stream, as in {@link #load(File, String, String)}. So are files on a file
+     system that doesn't support mapping, such as a zip file system, and files too large for a single mapping.
+     <p>This requires the {@code java.nio.file} API, which is not available in older versions of Android; use
+     {@link #load(File, String, String)} there.</p>
+
+     @param path file to load
+     @param charsetName (optional) character set of input; specify {@code null} to attempt to autodetect. A BOM in
+     the file will always override this setting.
+     @param baseUri base URI of document, to resolve relative links against
+     @return Document
+     @throws IOException on IO error
+     @since 1.15.2
+     */
+    public static Document load(Path path, @Nullable String charsetName, String baseUri) throws IOException {
+        return load(path, charsetName, baseUri, Parser.htmlParser());
+    }
+
+    /**
+     Loads and parses a file to a Document, using the provided Parser. The file is memory-mapped and decoded directly
+     from the mapped buffer.
+
+     @param path file to load
+     @param charsetName (optional) character set of input; specify {@code null} to attempt to autodetect. A BOM in
+     the file will always override this setting.
+     @param baseUri base URI of document, to resolve relative links against
+     @param parser alternate {@link Parser#xmlParser() parser} to use.
+     @return Document
+     @throws IOException on IO error
+     @see #load(Path, String, String)
+     @since 1.15.2
+     */
+    public static Document load(Path path, @Nullable String charsetName, String baseUri, Parser parser) throws IOException {
+        Path fileName = path.getFileName();
+        String name = fileName != null ? Normalizer.lowerCase(fileName.toString()) : "";
+        if (name.endsWith(".gz") || name.endsWith(".z")) {
+            InputStream stream = new BufferedInputStream(Files.newInputStream(path), 2); // marked, to check for the gzip magic bytes
+            stream.mark(2);
+            boolean zipped = (stream.read() == 0x1f && stream.read() == 0x8b);
+            stream.reset();
+            return parseInputStream(zipped ? new GZIPInputStream(stream) : stream, charsetName, baseUri, parser);
+        }
+
+        @Nullable ByteBuffer mapped = null;
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ); // via the path's file system, which may not be the default
+        try {
+            long size = channel.size();
+            if (size <= Integer.MAX_VALUE) // else larger than a single mapping allows
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size); // remains valid after the channel is closed
+        } catch (UnsupportedOperationException e) {
+            // the file system doesn't support mapping (e.g. a zip file system)
+        } finally {
+            channel.close();
+        }
+        if (mapped == null) // stream it instead
+            return parseInputStream(Files.newInputStream(path), charsetName, baseUri, parser);
+        return parseByteData(mapped, charsetName, baseUri, parser);
+    }
+
     /**
      * Parses a Document from an input steam.
      * @param in input stream to parse. The stream will be closed after reading.
@@ -155,46 +224,13 @@ public final class DataUtil {
 
             if (charsetName == null) { // determine from meta. safe first parse as UTF-8
                 try {
-                    CharBuffer defaultDecoded = UTF_8.decode(firstBytes);
-                    if (defaultDecoded.hasArray())
-                        doc = parser.parseInput(new CharArrayReader(defaultDecoded.array(), defaultDecoded.arrayOffset(), defaultDecoded.limit()), baseUri);
-                    else
-                        doc = parser.parseInput(defaultDecoded.toString(), baseUri);
+                    doc = parseDefaultCharset(firstBytes, baseUri, parser);
                 } catch (UncheckedIOException e) {
                     throw e.ioException();
                 }
 
-                // look for <meta http-equiv="Content-Type" content="text/html;charset=gb2312"> or HTML5 <meta charset="gb2312">
-                Elements metaElements = doc.select("meta[http-equiv=content-type], meta[charset]");
-                String foundCharset = null; // if not found, will keep utf-8 as best attempt
-                for (Element meta : metaElements) {
-                    if (meta.hasAttr("http-equiv"))
-                        foundCharset = getCharsetFromContentType(meta.attr("content"));
-                    if (foundCharset == null && meta.hasAttr("charset"))
-                        foundCharset = meta.attr("charset");
-                    if (foundCharset != null)
-                        break;
-                }
-
-                // look for <?xml encoding='ISO-8859-1'?>
-                if (foundCharset == null && doc.childNodeSize() > 0) {
-                    Node first = doc.childNode(0);
-                    XmlDeclaration decl = null;
-                    if (first instanceof XmlDeclaration)
-                        decl = (XmlDeclaration) first;
-                    else if (first instanceof Comment) {
-                        Comment comment = (Comment) first;
-                        if (comment.isXmlDeclaration())
-                            decl = comment.asXmlDeclaration();
-                    }
-                    if (decl != null) {
-                        if (decl.name().equalsIgnoreCase("xml"))
-                            foundCharset = decl.attr("encoding");
-                    }
-                }
-                foundCharset = validateCharset(foundCharset);
+                String foundCharset = charsetFromDocument(doc);
                 if (foundCharset != null && !foundCharset.equalsIgnoreCase(defaultCharsetName)) { // need to re-decode. (case insensitive check here to match how validate works)
-                    foundCharset = foundCharset.trim().replaceAll("[\"']", "");
                     charsetName = foundCharset;
                     doc = null;
                 } else if (!fullyRead) {
@@ -218,12 +254,7 @@ public final class DataUtil {
                         // io exception when parsing (not seen before because reading the stream as we go)
                         throw e.ioException();
                     }
-                    Charset charset = charsetName.equals(defaultCharsetName) ? UTF_8 : Charset.forName(charsetName);
-                    doc.outputSettings().charset(charset);
-                    if (!charset.canEncode()) {
-                        // some charsets can read but not encode; switch to an encodable charset and update the meta el
-                        doc.charset(UTF_8);
-                    }
+                    setOutputCharset(doc, charsetName);
                 }
                 finally {
                     reader.close();
@@ -236,6 +267,115 @@ public final class DataUtil {
         return doc;
     }
 
+    /**
+     Parses a Document from a byte buffer, such as a heap buffer of a response body, or a memory-mapped file. The bytes
+     are decoded directly from the buffer as they are parsed, without an intermediate input stream. The charset is detected in the same
+     way as when parsing from an input stream: from a BOM, the provided charset, a {@code <meta charset>}, or an XML
+     declaration, falling back to UTF-8.
+     @param byteData the bytes to parse, from the buffer's position to its limit. The buffer's position is not changed.
+     @param charsetName character set of input (optional)
+     @param baseUri base URI of document, to resolve relative links against
+     @param parser the parser to use
+     @return Document
+     @since 1.15.2
+     */
+    public static Document parseByteData(ByteBuffer byteData, @Nullable String charsetName, String baseUri, Parser parser) {
+        byteData = byteData.duplicate(); // so the caller's position is unchanged, and the buffer can be reparsed
+        @Nullable Document doc = null;
+
+        // look for BOM - overrides any other header or input
+        BomCharset bomCharset = detectCharsetFromBom(byteData);
+        if (bomCharset != null)
+            charsetName = bomCharset.charset;
+
+        if (charsetName == null) { // determine from meta. safe first parse as UTF-8, of just the start of the data
+            ByteBuffer firstBytes = byteData.duplicate();
+            boolean fullyRead = firstBytes.remaining() < firstReadBufferSize;
+            if (!fullyRead)
+                ((Buffer) firstBytes).limit(firstBytes.position() + firstReadBufferSize - 1);
+            doc = parseDefaultCharset(firstBytes, baseUri, parser);
+
+            String foundCharset = charsetFromDocument(doc);
+            if (foundCharset != null && !foundCharset.equalsIgnoreCase(defaultCharsetName)) {
+                charsetName = foundCharset;
+                doc = null;
+            } else if (!fullyRead) {
+                doc = null;
+            }
+        } else {
+            Validate.notEmpty(charsetName, "Must set charset arg to character set of file to parse. Set to null to attempt to detect from HTML");
+        }
+
+        if (doc == null) {
+            if (charsetName == null)
+                charsetName = defaultCharsetName;
+            if (bomCharset != null && bomCharset.offset) // the UTF-8 BOM; 16 and 32 decoders consume their own
+                ((Buffer) byteData).position(byteData.position() + 3);
+            Charset charset = charsetName.equals(defaultCharsetName) ? UTF_8 : Charset.forName(charsetName);
+            BufferedReader reader = new BufferedReader(new ByteBufferReader(byteData, charset), bufferSize); // decoded as parsed
+            doc = parser.parseInput(reader, baseUri); // the reader reads from memory, so doesn't throw
+            setOutputCharset(doc, charsetName);
+        }
+        return doc;
+    }
+
+    private static Document parseDefaultCharset(ByteBuffer firstBytes, String baseUri, Parser parser) {
+        return parseDecoded(UTF_8.decode(firstBytes), baseUri, parser);
+    }
+
+    private static Document parseDecoded(CharBuffer decoded, String baseUri, Parser parser) {
+        if (decoded.hasArray())
+            return parser.parseInput(new CharArrayReader(decoded.array(), decoded.arrayOffset() + decoded.position(), decoded.remaining()), baseUri);
+        else
+            return parser.parseInput(decoded.toString(), baseUri);
+    }
+
+    /**
+     Finds the charset declared in a document parsed from the start of the input, in a {@code <meta>} charset or
+     http-equiv content type, or an XML declaration.
+     @return the validated charset name, or null if none was declared or it is not supported
+     */
+    private static @Nullable String charsetFromDocument(Document doc) {
+        // look for <meta http-equiv="Content-Type" content="text/html;charset=gb2312"> or HTML5 <meta charset="gb2312">
+        Elements metaElements = doc.select("meta[http-equiv=content-type], meta[charset]");
+        String foundCharset = null; // if not found, will keep utf-8 as best attempt
+        for (Element meta : metaElements) {
+            if (meta.hasAttr("http-equiv"))
+                foundCharset = getCharsetFromContentType(meta.attr("content"));
+            if (foundCharset == null && meta.hasAttr("charset"))
+                foundCharset = meta.attr("charset");
+            if (foundCharset != null)
+                break;
+        }
+
+        // look for <?xml encoding='ISO-8859-1'?>
+        if (foundCharset == null && doc.childNodeSize() > 0) {
+            Node first = doc.childNode(0);
+            XmlDeclaration decl = null;
+            if (first instanceof XmlDeclaration)
+                decl = (XmlDeclaration) first;
+            else if (first instanceof Comment) {
+                Comment comment = (Comment) first;
+                if (comment.isXmlDeclaration())
+                    decl = comment.asXmlDeclaration();
+            }
+            if (decl != null) {
+                if (decl.name().equalsIgnoreCase("xml"))
+                    foundCharset = decl.attr("encoding");
+            }
+        }
+        return validateCharset(foundCharset);
+    }
+
+    private static void setOutputCharset(Document doc, String charsetName) {
+        Charset charset = charsetName.equals(defaultCharsetName) ? UTF_8 : Charset.forName(charsetName);
+        doc.outputSettings().charset(charset);
+        if (!charset.canEncode()) {
+            // some charsets can read but not encode; switch to an encodable charset and update the meta el
+            doc.charset(UTF_8);
+        }
+    }
+
     /**
      * Read the input stream into a byte buffer. To deal with slow input streams, you may interrupt the thread this
      * method is executing on. The data read until being interrupted will be available.
@@ -302,7 +442,7 @@ public final class DataUtil {
         byte[] bom = new byte[4];
         if (byteData.remaining() >= bom.length) {
             byteData.get(bom);
-            buffer.rewind();
+            buffer.reset();
         }
         if (bom[0] == 0x00 && bom[1] == 0x00 && bom[2] == (byte) 0xFE && bom[3] == (byte) 0xFF || // BE
             bom[0] == (byte) 0xFF && bom[1] == (byte) 0xFE && bom[2] == 0x00 && bom[3] == 0x00) { // LE
@@ -326,4 +466,38 @@ public final class DataUtil {
             this.offset = offset;
         }
     }
+
+    /**
+     A Reader that decodes a byte buffer as it is read, so that a large document is not decoded into a single char
+     buffer before it is parsed. Malformed and unmappable input is replaced, as in {@link Charset#decode(ByteBuffer)}.
+     */
+    private static class ByteBufferReader extends Reader {
+        private final ByteBuffer in;
+        private final CharsetDecoder decoder;
+        private boolean decoded = false; // all input has been decoded
+        private boolean flushed = false; // and the decoder has been flushed
+
+        ByteBufferReader(ByteBuffer in, Charset charset) {
+            this.in = in;
+            decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            if (len == 0)
+                return 0;
+            CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+            if (!decoded && decoder.decode(in, out, true).isUnderflow()) // else overflow: out is full
+                decoded = true;
+            if (decoded && !flushed && decoder.flush(out).isUnderflow())
+                flushed = true;
+            int read = out.position() - off;
+            return read == 0 && flushed ? -1 : read;
+        }
+
+        @Override
+        public void close() {}
+    }
 }
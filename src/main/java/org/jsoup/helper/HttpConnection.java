@@ -15,7 +15,6 @@ import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLSocketFactory;
 import java.io.BufferedInputStream;
 import java.io.BufferedWriter;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -41,6 +40,10 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.Inflater;
@@ -367,6 +370,50 @@ public class HttpConnection implements Connection {
         return res;
     }
 
+    @Override
+    public CompletableFuture<Connection.Response> executeAsync() {
+        final CompletableFuture<Connection.Response> future = new CompletableFuture<>();
+        req.executor().execute(() -> {
+            try {
+                future.complete(execute());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Document> getAsync() {
+        req.method(Method.GET);
+        return parseAsync();
+    }
+
+    @Override
+    public CompletableFuture<Document> postAsync() {
+        req.method(Method.POST);
+        return parseAsync();
+    }
+
+    private CompletableFuture<Document> parseAsync() {
+        final CompletableFuture<Document> future = new CompletableFuture<>();
+        req.executor().execute(() -> {
+            try {
+                future.complete(execute().parse());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public Connection executor(Executor executor) {
+        Validate.notNull(executor, "Executor must not be null");
+        req.executor = executor;
+        return this;
+    }
+
     public Connection.Request request() {
         return req;
     }
@@ -394,6 +441,29 @@ public class HttpConnection implements Connection {
     }
 
 
+    /**
+     The executor for async requests when one is not set: a virtual thread per task, where the runtime supports them
+     (Java 21+); otherwise a cached pool of daemon threads. Created when first used.
+     */
+    private static class DefaultExecutor {
+        static final Executor executor = create();
+
+        private static Executor create() {
+            try {
+                java.lang.reflect.Method virtual = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (Executor) virtual.invoke(null);
+            } catch (Exception e) {
+                final AtomicInteger count = new AtomicInteger();
+                return Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "jsoup-async-" + count.incrementAndGet());
+                    thread.setDaemon(true); // don't hold up JVM exit
+                    return thread;
+                });
+            }
+        }
+    }
+
+
     @SuppressWarnings("unchecked")
     private static abstract class Base<T extends Connection.Base<T>> implements Connection.Base<T> {
         private static final URL UnsetUrl; // only used if you created a new Request()
@@ -647,6 +717,7 @@ public class HttpConnection implements Connection {
         private @Nullable SSLSocketFactory sslSocketFactory;
         private CookieManager cookieManager;
         private volatile boolean executing = false;
+        private @Nullable Executor executor; // for async requests; default if not set
 
         Request() {
             super();
@@ -676,9 +747,14 @@ public class HttpConnection implements Connection {
             parserDefined = copy.parserDefined;
             sslSocketFactory = copy.sslSocketFactory; // these are all synchronized so safe to share
             cookieManager = copy.cookieManager;
+            executor = copy.executor;
             executing = false;
         }
 
+        Executor executor() {
+            return executor != null ? executor : DefaultExecutor.executor;
+        }
+
         public Proxy proxy() {
             return proxy;
         }
@@ -954,12 +1030,13 @@ public class HttpConnection implements Connection {
 
         public Document parse() throws IOException {
             Validate.isTrue(executed, "Request must be executed (with .execute(), .get(), or .post() before parsing response");
-            if (byteData != null) { // bytes have been read in to the buffer, parse that
-                bodyStream = new ByteArrayInputStream(byteData.array());
-                inputStreamRead = false; // ok to reparse if in bytes
+            Document doc;
+            if (byteData != null) { // bytes have been read in to the buffer, parse that directly
+                doc = DataUtil.parseByteData(byteData, charset, url.toExternalForm(), req.parser());
+            } else {
+                Validate.isFalse(inputStreamRead, "Input stream already read and parsed, cannot re-read.");
+                doc = DataUtil.parseInputStream(bodyStream, charset, url.toExternalForm(), req.parser());
             }
-            Validate.isFalse(inputStreamRead, "Input stream already read and parsed, cannot re-read.");
-            Document doc = DataUtil.parseInputStream(bodyStream, charset, url.toExternalForm(), req.parser());
             doc.connection(new HttpConnection(req, this)); // because we're static, don't have the connection obj. // todo - maybe hold in the req?
             charset = doc.outputSettings().charset().name(); // update charset from meta-equiv, possibly
             inputStreamRead = true;
@@ -0,0 +1,114 @@
+package org.jsoup.internal;
+
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Attributes;
+
+import java.util.regex.Pattern;
+
+import static org.jsoup.internal.Normalizer.lowerCase;
+
+/**
+ Class and attribute value matching, shared by {@link org.jsoup.nodes.Element#hasClass(String)}, the selector's
+ attribute evaluators, and the tag scanner's queries, so that each matches in the same way. Jsoup internal use only,
+ please don't depend on this API.
+ */
+public final class AttributeMatch {
+    private AttributeMatch() {}
+
+    /**
+     Tests if a class attribute value contains the class name, as a whitespace separated token, ignoring case.
+     @param classAttr the class attribute value
+     @param className the class name to find
+     @return true if found
+     */
+    // performance sensitive
+    public static boolean hasClass(String classAttr, String className) {
+        final int len = classAttr.length();
+        final int wantLen = className.length();
+        if (len == 0 || len < wantLen)
+            return false;
+
+        // if both lengths are equal, only need compare the className with the attribute
+        if (len == wantLen)
+            return className.equalsIgnoreCase(classAttr);
+
+        // otherwise, scan for whitespace and compare regions (with no string or arraylist allocations)
+        for (int start = classStart(classAttr, 0); start < len; ) {
+            int end = classEnd(classAttr, start);
+            if (end - start == wantLen && classAttr.regionMatches(true, start, className, 0, wantLen))
+                return true;
+            start = classStart(classAttr, end);
+        }
+        return false;
+    }
+
+    /**
+     Finds the start of the next class name in a class attribute value.
+     @param classAttr the class attribute value
+     @param from the position to search from
+     @return the start of the next class name, or the value's length if there are no more
+     */
+    public static int classStart(String classAttr, int from) {
+        final int len = classAttr.length();
+        while (from < len && Character.isWhitespace(classAttr.charAt(from)))
+            from++;
+        return from;
+    }
+
+    /**
+     Finds the end of the class name that starts at a position in a class attribute value.
+     @param classAttr the class attribute value
+     @param start the start of the class name
+     @return the end (exclusive) of the class name
+     */
+    public static int classEnd(String classAttr, int start) {
+        final int len = classAttr.length();
+        while (start < len && !Character.isWhitespace(classAttr.charAt(start)))
+            start++;
+        return start;
+    }
+
+    /**
+     Tests if any attribute key starts with the prefix, ignoring case.
+     @param attributes the attributes to test
+     @param keyPrefix the lower case key prefix
+     @return true if found
+     */
+    public static boolean hasKeyStarting(Attributes attributes, String keyPrefix) {
+        for (Attribute attribute : attributes) {
+            if (lowerCase(attribute.getKey()).startsWith(keyPrefix))
+                return true;
+        }
+        return false;
+    }
+
+    /** Tests if the attribute value, trimmed, equals the normalized value, ignoring case; as {@code [key=value]}. */
+    public static boolean valueEquals(String actual, String value) {
+        return value.equalsIgnoreCase(actual.trim());
+    }
+
+    /** Tests if the attribute value doesn't equal the normalized value, ignoring case; as {@code [key!=value]}. */
+    public static boolean valueNotEquals(String actual, String value) {
+        return !value.equalsIgnoreCase(actual);
+    }
+
+    /** Tests if the attribute value starts with the lower case value, ignoring case; as {@code [key^=value]}. */
+    public static boolean valueStarting(String actual, String value) {
+        return lowerCase(actual).startsWith(value);
+    }
+
+    /** Tests if the attribute value ends with the lower case value, ignoring case; as {@code [key$=value]}. */
+    public static boolean valueEnding(String actual, String value) {
+        return lowerCase(actual).endsWith(value);
+    }
+
+    /** Tests if the attribute value contains the lower case value, ignoring case; as {@code [key*=value]}. */
+    public static boolean valueContaining(String actual, String value) {
+        return lowerCase(actual).contains(value);
+    }
+
+    /** Tests if the pattern is found in the attribute value; as {@code [key~=regex]}. */
+    public static boolean valueMatching(String actual, Pattern pattern) {
+        return pattern.matcher(actual).find();
+    }
+}
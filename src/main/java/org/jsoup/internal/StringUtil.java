@@ -159,6 +159,20 @@ public final class StringUtil {
         return true;
     }
 
+    /**
+     Tests if a string contains any whitespace characters, as defined by {@link Character#isWhitespace(char)}.
+     @param string string to test
+     @return if the string contains whitespace
+     */
+    public static boolean containsWhitespace(final String string) {
+        int l = string.length();
+        for (int i = 0; i < l; i++) {
+            if (Character.isWhitespace(string.charAt(i)))
+                return true;
+        }
+        return false;
+    }
+
     /**
      Tests if a string starts with a newline character
      @param string string to test
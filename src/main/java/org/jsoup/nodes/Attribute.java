@@ -70,9 +70,13 @@ public class Attribute implements Map.Entry<String, String>, Cloneable  {
         key = key.trim();
         Validate.notEmpty(key); // trimming could potentially make empty, so validate here
         if (parent != null) {
+            parent.prepareChange();
             int i = parent.indexOfKey(this.key);
-            if (i != Attributes.NotFound)
+            if (i != Attributes.NotFound) {
                 parent.keys[i] = key;
+                parent.keyChanged(this.key);
+                parent.keyChanged(key);
+            }
         }
         this.key = key;
     }
@@ -102,10 +106,12 @@ public class Attribute implements Map.Entry<String, String>, Cloneable  {
     public String setValue(@Nullable String val) {
         String oldVal = this.val;
         if (parent != null) {
+            parent.prepareChange();
             int i = parent.indexOfKey(this.key);
             if (i != Attributes.NotFound) {
                 oldVal = parent.get(this.key); // trust the container more
                 parent.vals[i] = val;
+                parent.keyChanged(this.key);
             }
         }
         this.val = val;
@@ -45,11 +45,15 @@ public class Attributes implements Iterable<Attribute>, Cloneable {
     private static final int GrowthFactor = 2;
     static final int NotFound = -1;
     private static final String EmptyString = "";
+    private static final String[] EmptyArray = new String[0]; // shared by trimmed empty attributes; grown on add
 
     // the number of instance fields is kept as low as possible giving an object size of 24 bytes
     private int size = 0; // number of slots used (not total capacity, which is keys.length)
     String[] keys = new String[InitialCapacity];
     String[] vals = new String[InitialCapacity];
+    @Nullable Element owner; // set if the owning element is in a document's element index, to notify of id / class changes
+    private boolean frozen = false; // set when the owning document is frozen; changes then throw
+    private boolean sharedArrays = false; // set when keys and vals are shared with a clone; copied before a change
 
     // check there's room for more
     private void checkCapacity(int minNewSize) {
@@ -84,6 +88,35 @@ public class Attributes implements Iterable<Attribute>, Cloneable {
     }
 
     // we track boolean attributes as null in values - they're just keys. so returns empty for consumers
+    // if the owning element is indexed, and its id or class changed, the index must be rebuilt
+    void keyChanged(String key) {
+        if (owner != null && (key.equalsIgnoreCase("id") || key.equalsIgnoreCase("class")))
+            owner.invalidateIndex();
+    }
+
+    /**
+     Make these attributes read-only, as part of a document freeze.
+     @return this, for chaining
+     */
+    Attributes freeze() {
+        frozen = true;
+        return this;
+    }
+
+    /**
+     Prepare for a change to the keys or values: checks that these attributes are not frozen, and copies the arrays if
+     they are shared with a clone.
+     */
+    void prepareChange() {
+        if (frozen)
+            throw Node.frozenException();
+        if (sharedArrays) {
+            keys = Arrays.copyOf(keys, keys.length);
+            vals = Arrays.copyOf(vals, vals.length);
+            sharedArrays = false;
+        }
+    }
+
     static String checkNotNull(@Nullable String val) {
         return val == null ? EmptyString : val;
     }
@@ -114,10 +147,12 @@ public class Attributes implements Iterable<Attribute>, Cloneable {
      * @see Attributes#put(String, String)
      */
     public Attributes add(String key, @Nullable String value) {
+        prepareChange();
         checkCapacity(size + 1);
         keys[size] = key;
         vals[size] = value;
         size++;
+        if (owner != null) keyChanged(key);
         return this;
     }
 
@@ -129,20 +164,25 @@ public class Attributes implements Iterable<Attribute>, Cloneable {
      */
     public Attributes put(String key, @Nullable String value) {
         Validate.notNull(key);
+        prepareChange();
         int i = indexOfKey(key);
-        if (i != NotFound)
+        if (i != NotFound) {
             vals[i] = value;
+            if (owner != null) keyChanged(key);
+        }
         else
             add(key, value);
         return this;
     }
 
     void putIgnoreCase(String key, @Nullable String value) {
+        prepareChange();
         int i = indexOfKeyIgnoreCase(key);
         if (i != NotFound) {
             vals[i] = value;
             if (!keys[i].equals(key)) // case changed, update
                 keys[i] = key;
+            if (owner != null) keyChanged(key);
         }
         else
             add(key, value);
@@ -178,6 +218,8 @@ public class Attributes implements Iterable<Attribute>, Cloneable {
     @SuppressWarnings("AssignmentToNull")
     private void remove(int index) {
         Validate.isFalse(index >= size);
+        prepareChange();
+        if (owner != null) keyChanged(keys[index]);
         int shifted = size - index - 1;
         if (shifted > 0) {
             System.arraycopy(keys, index + 1, keys, index, shifted);
@@ -255,6 +297,23 @@ public class Attributes implements Iterable<Attribute>, Cloneable {
         return size;
     }
 
+    /**
+     Trims the capacity of the key and value arrays to the current size.
+     */
+    void trimToSize() {
+        if (frozen) {
+            return; // may be read concurrently, so not modified
+        } else if (size == 0) {
+            keys = EmptyArray;
+            vals = EmptyArray;
+            sharedArrays = false;
+        } else if (keys.length > size) {
+            keys = Arrays.copyOf(keys, size);
+            vals = Arrays.copyOf(vals, size);
+            sharedArrays = false;
+        }
+    }
+
     /**
      * Test if this Attributes list is empty (size==0).
      */
@@ -269,6 +328,7 @@ public class Attributes implements Iterable<Attribute>, Cloneable {
     public void addAll(Attributes incoming) {
         if (incoming.size() == 0)
             return;
+        prepareChange();
         checkCapacity(size + incoming.size);
 
         boolean needsPut = size != 0; // if this set is empty, no need to check existing set, so can add() vs put()
@@ -415,8 +475,13 @@ public class Attributes implements Iterable<Attribute>, Cloneable {
             throw new RuntimeException(e);
         }
         clone.size = size;
-        clone.keys = Arrays.copyOf(keys, size);
-        clone.vals = Arrays.copyOf(vals, size);
+        clone.keys = keys; // shared until either is changed, when that one copies them
+        clone.vals = vals;
+        clone.sharedArrays = true;
+        if (!frozen) // a frozen source won't change, so needn't copy (and must not be written)
+            sharedArrays = true;
+        clone.owner = null;
+        clone.frozen = false;
         return clone;
     }
 
@@ -424,6 +489,7 @@ public class Attributes implements Iterable<Attribute>, Cloneable {
      * Internal method. Lowercases all keys.
      */
     public void normalize() {
+        prepareChange();
         for (int i = 0; i < size; i++) {
             keys[i] = lowerCase(keys[i]);
         }
@@ -4,6 +4,7 @@ import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.helper.DataUtil;
 import org.jsoup.helper.Validate;
+import org.jsoup.internal.Normalizer;
 import org.jsoup.internal.StringUtil;
 import org.jsoup.parser.ParseSettings;
 import org.jsoup.parser.Parser;
@@ -28,6 +29,10 @@ public class Document extends Element {
     private QuirksMode quirksMode = QuirksMode.noQuirks;
     private final String location;
     private boolean updateMetaCharset = false;
+    private boolean indexed = false;
+    private @Nullable ElementIndex index; // built on demand when indexed; cleared when an indexed element changes
+    private boolean cacheText = false;
+    private @Nullable TextCache textCache; // filled on demand when caching text; cleared when a cached element changes
 
     /**
      Create a new, empty Document.
@@ -254,6 +259,12 @@ public class Document extends Element {
         return super.html(); // no outer wrapper tag
     }
 
+    @Override
+    void outerHtml(Appendable accum, OutputSettings out) {
+        for (Node child : childNodes) // no outer wrapper tag
+            child.outerHtml(accum, out);
+    }
+
     /**
      Set the text of the {@code body} of this document. Any existing nodes within the body will be cleared.
      @param text unencoded text
@@ -326,6 +337,7 @@ public class Document extends Element {
      * @see #charset(java.nio.charset.Charset) 
      */
     public void updateMetaCharsetElement(boolean update) {
+        checkNotFrozen();
         this.updateMetaCharset = update;
     }
     
@@ -341,10 +353,184 @@ public class Document extends Element {
         return updateMetaCharset;
     }
 
+    /**
+     Sets whether this document maintains an index of its elements, by id, class name, and tag name. When enabled, the
+     index is built on the first lookup, and is then used by {@link #getElementById(String)},
+     {@link #getElementsByClass(String)}, {@link #getElementsByTag(String)}, and by selects from the document that
+     include an id, class, or tag selector, rather than searching the whole document.
+     <p>Any change to an indexed element (its children, tag name, id or class) discards the index, and it is rebuilt on
+     the next lookup. So indexing suits documents that are queried many times between modifications. Off by default.</p>
+     @param indexed true to maintain an element index
+     @return this document, for chaining
+     @since 1.15.2
+     */
+    public Document indexed(boolean indexed) {
+        checkNotFrozen();
+        this.indexed = indexed;
+        if (!indexed)
+            index = null;
+        return this;
+    }
+
+    /**
+     Get if this document maintains an index of its elements.
+     @return true if indexed
+     @see #indexed(boolean)
+     @since 1.15.2
+     */
+    public boolean indexed() {
+        return indexed;
+    }
+
+    /**
+     Sets whether this document caches the normalized {@link Element#text() text} of its elements. When enabled, each
+     element's text is cached when first read (along with the text of its descendants, which it is assembled from), so
+     reading the text of an element and then of its children or parents reads each node's text once.
+     <p>Any change to a cached element or its text (or to an ancestor's children or tag name) discards the cache. So
+     caching suits documents that are read many times between modifications. The cache holds the text of each cached
+     element, so uses memory in proportion to the text size times the document depth. The cache isn't used by a
+     {@link #freeze() frozen} document. Off by default.</p>
+     <p>As reading text fills the cache, {@code text()} is then not a read-only method, so must not be called on the
+     document's elements by several threads at once. Selects don't use the cache (a select indexes the text it reads
+     itself), so selecting in parallel, as with {@link org.jsoup.select.Selector#selectAll}, remains safe. To share a
+     document between threads for any reads, {@link #freeze()} it.</p>
+     @param cacheText true to cache element text
+     @return this document, for chaining
+     @since 1.15.2
+     */
+    public Document cacheText(boolean cacheText) {
+        checkNotFrozen();
+        this.cacheText = cacheText;
+        if (!cacheText)
+            textCache = null;
+        return this;
+    }
+
+    /**
+     Get if this document caches the text of its elements.
+     @return true if caching text
+     @see #cacheText(boolean)
+     @since 1.15.2
+     */
+    public boolean cacheText() {
+        return cacheText;
+    }
+
+    /** Get the text cache, if text is cached and the document may be modified (else reads must not write). */
+    @Nullable TextCache textCache() {
+        if (!cacheText || frozen)
+            return null;
+        TextCache cache = textCache;
+        if (cache == null) {
+            cache = new TextCache();
+            textCache = cache;
+        }
+        return cache;
+    }
+
+    void clearTextCache() {
+        textCache = null;
+    }
+
+    /**
+     Freezes this document, making it read-only, so that it can be read by any number of threads at once, without
+     locking. Reads such as {@link #select(String)}, {@link #text()}, {@link #outerHtml()}, and traversals are then safe
+     to run concurrently, as the state that is otherwise built on demand (each element's list of child elements, and the
+     {@link #indexed(boolean) element index} if enabled) is built now, and no longer changes.
+     <p>Any method that would modify the document, its nodes, their attributes, or its {@link #outputSettings() output
+     settings} then throws an {@link UnsupportedOperationException}. To make changes, modify a {@link #clone()} of the
+     document, which is not frozen. As the output settings object is frozen too, don't share it with other documents that
+     are to be modified.</p>
+     <p>The frozen document must then be published to other threads safely, as with any object; e.g. via a final field,
+     or a concurrent collection.</p>
+     @return this document, for chaining
+     @see #frozen()
+     @since 1.15.2
+     */
+    public Document freeze() {
+        if (frozen)
+            return this;
+        if (indexed)
+            index(); // built now, as lookups can't build it concurrently
+        outputSettings.freeze();
+        textCache = null; // not used when frozen
+        final boolean holdChildren = !parser.leanDom(); // a lean DOM builds each child element list when used
+        forEachNode(node -> node.freeze(holdChildren));
+        return this;
+    }
+
+    /**
+     Check if this document has been {@link #freeze() frozen}, and so is read-only.
+     @return true if frozen
+     @since 1.15.2
+     */
+    public boolean frozen() {
+        return frozen;
+    }
+
+    private ElementIndex index() {
+        ElementIndex idx = index;
+        if (idx == null) {
+            idx = new ElementIndex(this);
+            index = idx;
+        }
+        return idx;
+    }
+
+    void clearIndex() {
+        index = null;
+    }
+
+    /**
+     Find an element by ID. If this document is {@link #indexed(boolean) indexed}, the element is looked up in the index.
+     @param id The ID to search for.
+     @return The first matching element by ID, in document order, or null if none found.
+     */
+    @Override
+    public @Nullable Element getElementById(String id) {
+        if (!indexed)
+            return super.getElementById(id);
+        Validate.notEmpty(id);
+        List<Element> els = index().byId(id);
+        return els.isEmpty() ? null : els.get(0);
+    }
+
+    /**
+     Find all elements with the specified ID. IDs should be unique within a document, but many documents repeat them.
+     If this document is {@link #indexed(boolean) indexed}, the elements are looked up in the index.
+     @param id The ID to search for.
+     @return the elements with that ID, in document order; empty if none
+     @since 1.15.2
+     */
+    public Elements getElementsById(String id) {
+        Validate.notEmpty(id);
+        if (!indexed)
+            return select(new Evaluator.Id(id));
+        return new Elements(index().byId(id));
+    }
+
+    @Override
+    public Elements getElementsByClass(String className) {
+        if (!indexed || StringUtil.containsWhitespace(className)) // the index holds single class names
+            return super.getElementsByClass(className);
+        Validate.notEmpty(className);
+        return new Elements(index().byClass(className));
+    }
+
+    @Override
+    public Elements getElementsByTag(String tagName) {
+        if (!indexed)
+            return super.getElementsByTag(tagName);
+        Validate.notEmpty(tagName);
+        return new Elements(index().byTag(Normalizer.normalize(tagName)));
+    }
+
     @Override
     public Document clone() {
         Document clone = (Document) super.clone();
         clone.outputSettings = this.outputSettings.clone();
+        clone.index = null;
+        clone.textCache = null;
         return clone;
     }
 
@@ -426,6 +612,7 @@ public class Document extends Element {
         private Charset charset = DataUtil.UTF_8;
         private final ThreadLocal<CharsetEncoder> encoderThreadLocal = new ThreadLocal<>(); // initialized by start of OuterHtmlVisitor
         @Nullable Entities.CoreCharset coreCharset; // fast encoders for ascii and utf8
+        private boolean frozen = false; // set when the document is frozen; changes then throw
 
         private boolean prettyPrint = true;
         private boolean outline = false;
@@ -454,6 +641,7 @@ public class Document extends Element {
          * @return the document's output settings, for chaining
          */
         public OutputSettings escapeMode(Entities.EscapeMode escapeMode) {
+            checkNotFrozen();
             this.escapeMode = escapeMode;
             return this;
         }
@@ -476,6 +664,7 @@ public class Document extends Element {
          * @return the document's output settings, for chaining
          */
         public OutputSettings charset(Charset charset) {
+            checkNotFrozen();
             this.charset = charset;
             return this;
         }
@@ -494,7 +683,8 @@ public class Document extends Element {
             // created at start of OuterHtmlVisitor so each pass has own encoder, so OutputSettings can be shared among threads
             CharsetEncoder encoder = charset.newEncoder();
             encoderThreadLocal.set(encoder);
-            coreCharset = Entities.CoreCharset.byName(encoder.charset().name());
+            if (!frozen) // else set when frozen, and not written during concurrent reads
+                coreCharset = Entities.CoreCharset.byName(encoder.charset().name());
             return encoder;
         }
 
@@ -518,6 +708,7 @@ public class Document extends Element {
          * @return the document's output settings, for chaining
          */
         public OutputSettings syntax(Syntax syntax) {
+            checkNotFrozen();
             this.syntax = syntax;
             return this;
         }
@@ -537,6 +728,7 @@ public class Document extends Element {
          * @return this, for chaining
          */
         public OutputSettings prettyPrint(boolean pretty) {
+            checkNotFrozen();
             prettyPrint = pretty;
             return this;
         }
@@ -556,6 +748,7 @@ public class Document extends Element {
          * @return this, for chaining
          */
         public OutputSettings outline(boolean outlineMode) {
+            checkNotFrozen();
             outline = outlineMode;
             return this;
         }
@@ -575,6 +768,7 @@ public class Document extends Element {
          */
         public OutputSettings indentAmount(int indentAmount) {
             Validate.isTrue(indentAmount >= 0);
+            checkNotFrozen();
             this.indentAmount = indentAmount;
             return this;
         }
@@ -596,10 +790,21 @@ public class Document extends Element {
          */
         public OutputSettings maxPaddingWidth(int maxPaddingWidth) {
             Validate.isTrue(maxPaddingWidth >= -1);
+            checkNotFrozen();
             this.maxPaddingWidth = maxPaddingWidth;
             return this;
         }
 
+        void freeze() {
+            coreCharset = Entities.CoreCharset.byName(charset.name());
+            frozen = true;
+        }
+
+        private void checkNotFrozen() {
+            if (frozen)
+                throw frozenException();
+        }
+
         @Override
         public OutputSettings clone() {
             OutputSettings clone;
@@ -608,6 +813,7 @@ public class Document extends Element {
             } catch (CloneNotSupportedException e) {
                 throw new RuntimeException(e);
             }
+            clone.frozen = false;
             clone.charset(charset.name()); // new charset and charset encoder
             clone.escapeMode = Entities.EscapeMode.valueOf(escapeMode.name());
             // indentAmount, maxPaddingWidth, and prettyPrint are primitives so object.clone() will handle
@@ -630,6 +836,7 @@ public class Document extends Element {
      */
     public Document outputSettings(OutputSettings outputSettings) {
         Validate.notNull(outputSettings);
+        checkNotFrozen();
         this.outputSettings = outputSettings;
         return this;
     }
@@ -643,6 +850,7 @@ public class Document extends Element {
     }
 
     public Document quirksMode(QuirksMode quirksMode) {
+        checkNotFrozen();
         this.quirksMode = quirksMode;
         return this;
     }
@@ -662,6 +870,7 @@ public class Document extends Element {
      * @return this document, for chaining.
      */
     public Document parser(Parser parser) {
+        checkNotFrozen();
         this.parser = parser;
         return this;
     }
@@ -677,6 +886,7 @@ public class Document extends Element {
      */
     public Document connection(Connection connection) {
         Validate.notNull(connection);
+        checkNotFrozen();
         this.connection = connection;
         return this;
     }
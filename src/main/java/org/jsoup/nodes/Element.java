@@ -3,6 +3,7 @@ package org.jsoup.nodes;
 import org.jsoup.helper.ChangeNotifyingArrayList;
 import org.jsoup.helper.Consumer;
 import org.jsoup.helper.Validate;
+import org.jsoup.internal.AttributeMatch;
 import org.jsoup.internal.NonnullByDefault;
 import org.jsoup.internal.StringUtil;
 import org.jsoup.parser.ParseSettings;
@@ -45,10 +46,16 @@ public class Element extends Node {
     private static final List<Element> EmptyChildren = Collections.emptyList();
     private static final Pattern ClassSplit = Pattern.compile("\\s+");
     private static final String BaseUriKey = Attributes.internalKey("baseUri");
+    private static final int LeanHeldChildNodes = 32; // a lean element with at least this many child nodes holds its child element list
     private Tag tag;
-    private @Nullable WeakReference<List<Element>> shadowChildrenRef; // points to child elements shadowed from node children
+    private @Nullable Object shadowChildren; // child elements shadowed from node children: a WeakReference to the list, or the list itself when frozen or lean
     List<Node> childNodes;
     @Nullable Attributes attributes; // field is nullable but all methods for attributes are non-null
+    boolean inIndex = false; // set when included in a document's element index; changes then invalidate that index
+    boolean frozen = false; // set when the owning document is frozen; changes then throw
+    boolean inTextCache = false; // set when this element's text, or a relative's, is in a document's text cache; changes then clear it
+    private boolean lean = false; // set when trimmed to size; then only wide elements cache their child elements
+    private static final Attributes FrozenEmptyAttributes = new Attributes().freeze(); // for reads of frozen elements without attributes
 
     /**
      * Create a new, standalone element.
@@ -95,7 +102,7 @@ public class Element extends Node {
     }
 
     protected List<Node> ensureChildNodes() {
-        if (childNodes == EmptyNodes) {
+        if (childNodes == EmptyNodes && !frozen) { // a frozen element keeps the (immutable) empty list
             childNodes = new NodeList(this, 4);
         }
         return childNodes;
@@ -108,8 +115,11 @@ public class Element extends Node {
 
     @Override
     public Attributes attributes() {
-        if (attributes == null) // not using hasAttributes, as doesn't clear warning
+        if (attributes == null) { // not using hasAttributes, as doesn't clear warning
+            if (frozen) return FrozenEmptyAttributes; // read-only, so not set
             attributes = new Attributes();
+            if (inIndex) attributes.owner = this;
+        }
         return attributes;
     }
 
@@ -173,7 +183,10 @@ public class Element extends Node {
      */
     public Element tagName(String tagName) {
         Validate.notEmpty(tagName, "Tag name must not be empty.");
+        checkNotFrozen();
         tag = Tag.valueOf(tagName, NodeUtils.parser(this).settings()); // maintains the case option of the original parse
+        if (inIndex) invalidateIndex();
+        if (inTextCache) invalidateTextCache();
         return this;
     }
 
@@ -329,12 +342,15 @@ public class Element extends Node {
      * TODO - think about pulling this out as a helper as there are other shadow lists (like in Attributes) kept around.
      * @return a list of child elements
      */
+    @SuppressWarnings("unchecked")
     List<Element> childElementsList() {
         if (childNodeSize() == 0)
             return EmptyChildren; // short circuit creating empty
+        if (shadowChildren instanceof List)
+            return (List<Element>) shadowChildren; // held by a frozen or a wide lean element
 
         List<Element> children;
-        if (shadowChildrenRef == null || (children = shadowChildrenRef.get()) == null) {
+        if (shadowChildren == null || (children = ((WeakReference<List<Element>>) shadowChildren).get()) == null) {
             final int size = childNodes.size();
             children = new ArrayList<>(size);
             //noinspection ForLoopReplaceableByForEach (beacause it allocates an Iterator which is wasteful here)
@@ -343,18 +359,81 @@ public class Element extends Node {
                 if (node instanceof Element)
                     children.add((Element) node);
             }
-            shadowChildrenRef = new WeakReference<>(children);
+            if (!frozen) {
+                if (!lean)
+                    shadowChildren = new WeakReference<>(children);
+                else if (size >= LeanHeldChildNodes) { // rebuilding per sibling lookup would be quadratic, so hold it until changed
+                    ((ArrayList<Element>) children).trimToSize();
+                    shadowChildren = children;
+                }
+                // else a narrow lean element rebuilds its short list when used, rather than holding a reference for the cache
+            }
         }
         return children;
     }
 
+    /**
+     Reduces the memory used by this element, by trimming the capacity of its child node list and its attributes to
+     their current size. Elements are trimmed as they are parsed when using {@link org.jsoup.parser.Parser#leanDom(boolean)}.
+     <p>A trimmed element also stops keeping a weakly referenced cache of its child elements, unless it has many children;
+     then it holds that list until its children are next changed.</p>
+     @since 1.15.2
+     */
+    public void trimToSize() {
+        if (frozen)
+            return; // may be read concurrently, so not modified
+        lean = true;
+        if (shadowChildren instanceof WeakReference)
+            shadowChildren = null; // not kept when lean; a wide element holds its list when next used
+        if (childNodes instanceof NodeList)
+            ((NodeList) childNodes).trimToSize();
+        if (attributes != null)
+            attributes.trimToSize();
+    }
+
     /**
      * Clears the cached shadow child elements.
      */
     @Override
     void nodelistChanged() {
         super.nodelistChanged();
-        shadowChildrenRef = null;
+        shadowChildren = null;
+        if (inIndex) invalidateIndex();
+        if (inTextCache) invalidateTextCache();
+    }
+
+    @Override
+    boolean isFrozen() {
+        return frozen;
+    }
+
+    @Override
+    void freeze(boolean holdChildren) {
+        if (holdChildren && childNodeSize() > 0)
+            shadowChildren = childElementsList(); // held strongly, so it's never rebuilt during a read
+        else if (lean && childNodeSize() >= LeanHeldChildNodes)
+            childElementsList(); // a wide lean element holds its list now, as it can't once frozen
+        if (attributes != null)
+            attributes.freeze();
+        frozen = true;
+    }
+
+    /**
+     Clears the element index of the owning document, if any, after a change to this indexed element.
+     */
+    void invalidateIndex() {
+        Document doc = ownerDocument();
+        if (doc != null)
+            doc.clearIndex();
+    }
+
+    /**
+     Clears the text cache of the owning document, if any, after a change to this element or its text.
+     */
+    void invalidateTextCache() {
+        Document doc = ownerDocument();
+        if (doc != null)
+            doc.clearTextCache();
     }
 
     /**
@@ -1282,33 +1361,45 @@ public class Element extends Node {
      @see #textNodes()
      */
     public String text() {
+        Document doc = ownerDocument();
+        TextCache cache = doc != null ? doc.textCache() : null;
+        if (cache != null)
+            return cache.text(this);
+
         final StringBuilder accum = StringUtil.borrowBuilder();
-        NodeTraversor.traverse(new NodeVisitor() {
-            public void head(Node node, int depth) {
-                if (node instanceof TextNode) {
-                    TextNode textNode = (TextNode) node;
-                    appendNormalisedText(accum, textNode);
-                } else if (node instanceof Element) {
-                    Element element = (Element) node;
-                    if (accum.length() > 0 &&
-                        (element.isBlock() || element.tag.normalName().equals("br")) &&
-                        !TextNode.lastCharIsWhitespace(accum))
-                        accum.append(' ');
-                }
-            }
+        NodeTraversor.traverse(new TextAccumulator(accum), this);
+        return StringUtil.releaseBuilder(accum).trim();
+    }
 
-            public void tail(Node node, int depth) {
-                // make sure there is a space between block tags and immediately following text nodes <div>One</div>Two should be "One Two".
-                if (node instanceof Element) {
-                    Element element = (Element) node;
-                    if (element.isBlock() && (node.nextSibling() instanceof TextNode) && !TextNode.lastCharIsWhitespace(accum))
-                        accum.append(' ');
-                }
+    /** Accumulates the normalized text of the visited nodes, for {@link #text()} and {@link TextIndex}. */
+    static final class TextAccumulator implements NodeVisitor {
+        private final StringBuilder accum;
 
+        TextAccumulator(StringBuilder accum) {
+            this.accum = accum;
+        }
+
+        public void head(Node node, int depth) {
+            if (node instanceof TextNode) {
+                TextNode textNode = (TextNode) node;
+                appendNormalisedText(accum, textNode);
+            } else if (node instanceof Element) {
+                Element element = (Element) node;
+                if (accum.length() > 0 &&
+                    (element.isBlock() || element.tag.normalName().equals("br")) &&
+                    !TextNode.lastCharIsWhitespace(accum))
+                    accum.append(' ');
             }
-        }, this);
+        }
 
-        return StringUtil.releaseBuilder(accum).trim();
+        public void tail(Node node, int depth) {
+            // make sure there is a space between block tags and immediately following text nodes <div>One</div>Two should be "One Two".
+            if (node instanceof Element) {
+                Element element = (Element) node;
+                if (element.isBlock() && (node.nextSibling() instanceof TextNode) && !TextNode.lastCharIsWhitespace(accum))
+                    accum.append(' ');
+            }
+        }
     }
 
     /**
@@ -1538,47 +1629,7 @@ public class Element extends Node {
     public boolean hasClass(String className) {
         if (attributes == null)
             return false;
-
-        final String classAttr = attributes.getIgnoreCase("class");
-        final int len = classAttr.length();
-        final int wantLen = className.length();
-
-        if (len == 0 || len < wantLen) {
-            return false;
-        }
-
-        // if both lengths are equal, only need compare the className with the attribute
-        if (len == wantLen) {
-            return className.equalsIgnoreCase(classAttr);
-        }
-
-        // otherwise, scan for whitespace and compare regions (with no string or arraylist allocations)
-        boolean inClass = false;
-        int start = 0;
-        for (int i = 0; i < len; i++) {
-            if (Character.isWhitespace(classAttr.charAt(i))) {
-                if (inClass) {
-                    // white space ends a class name, compare it with the requested one, ignore case
-                    if (i - start == wantLen && classAttr.regionMatches(true, start, className, 0, wantLen)) {
-                        return true;
-                    }
-                    inClass = false;
-                }
-            } else {
-                if (!inClass) {
-                    // we're in a class name : keep the start of the substring
-                    inClass = true;
-                    start = i;
-                }
-            }
-        }
-
-        // check the last entry
-        if (inClass && len - start == wantLen) {
-            return classAttr.regionMatches(true, start, className, 0, wantLen);
-        }
-
-        return false;
+        return AttributeMatch.hasClass(attributes.getIgnoreCase("class"), className);
     }
 
     /**
@@ -1662,6 +1713,9 @@ public class Element extends Node {
             if (accum instanceof StringBuilder) {
                 if (((StringBuilder) accum).length() > 0)
                     indent(accum, depth, out);
+            } else if (accum instanceof EncodingAppendable) {
+                if (!((EncodingAppendable) accum).isEmpty())
+                    indent(accum, depth, out);
             } else {
                 indent(accum, depth, out);
             }
@@ -1740,8 +1794,14 @@ public class Element extends Node {
     protected Element doClone(@Nullable Node parent) {
         Element clone = (Element) super.doClone(parent);
         clone.attributes = attributes != null ? attributes.clone() : null;
-        clone.childNodes = new NodeList(clone, childNodes.size());
-        clone.childNodes.addAll(childNodes); // the children then get iterated and cloned in Node.clone
+        clone.inIndex = false;
+        clone.frozen = false;
+        clone.inTextCache = false;
+        clone.shadowChildren = null;
+        if (childNodes.size() > 0)
+            clone.childNodes = new NodeList(clone, childNodes); // the children then get iterated and cloned in Node.clone
+        else
+            clone.childNodes = EmptyNodes;
 
         return clone;
     }
@@ -1749,6 +1809,7 @@ public class Element extends Node {
     // overrides of Node for call chaining
     @Override
     public Element clearAttributes() {
+        checkNotFrozen();
         if (attributes != null) {
             super.clearAttributes();
             attributes = null;
@@ -1806,7 +1867,13 @@ public class Element extends Node {
             this.owner = owner;
         }
 
+        NodeList(Element owner, Collection<Node> nodes) {
+            super(nodes);
+            this.owner = owner;
+        }
+
         public void onContentsChanged() {
+            owner.checkNotFrozen();
             owner.nodelistChanged();
         }
     }
@@ -0,0 +1,92 @@
+package org.jsoup.nodes;
+
+import org.jsoup.select.Elements;
+import org.jsoup.select.NodeVisitor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.jsoup.internal.Normalizer.lowerCase;
+
+/**
+ An index of a Document's elements, by id, class name (lower-cased, as class matching is case-insensitive), and tag
+ normal name. Each list is in document order. Built in one traversal when first used, and discarded by the Document when
+ an indexed element is changed.
+ */
+final class ElementIndex implements NodeVisitor {
+    private final Map<String, Elements> ids = new HashMap<>();
+    private final Map<String, Elements> classes = new HashMap<>();
+    private final Map<String, Elements> tags = new HashMap<>();
+
+    ElementIndex(Document doc) {
+        doc.traverse(this);
+    }
+
+    @Override public void head(Node node, int depth) {
+        if (!(node instanceof Element)) return;
+        Element el = (Element) node;
+        el.inIndex = true;
+        add(tags, el.normalName(), el);
+
+        Attributes attributes = el.attributes;
+        if (attributes == null) return;
+        attributes.owner = el; // so that id and class changes invalidate the index
+        String id = attributes.getIgnoreCase("id");
+        if (id.length() > 0)
+            add(ids, id, el);
+        String classAttr = attributes.getIgnoreCase("class");
+        if (classAttr.length() > 0)
+            addClasses(classAttr, el);
+    }
+
+    // splits the class attribute on whitespace, to match Element.hasClass()
+    private void addClasses(String classAttr, Element el) {
+        final int len = classAttr.length();
+        int start = -1;
+        for (int i = 0; i <= len; i++) {
+            if (i == len || Character.isWhitespace(classAttr.charAt(i))) {
+                if (start != -1) {
+                    String key = lowerCase(classAttr.substring(start, i));
+                    Elements list = classes.get(key);
+                    if (list == null || list.get(list.size() - 1) != el) // skips repeats within the one element
+                        add(classes, key, el);
+                    start = -1;
+                }
+            } else if (start == -1) {
+                start = i;
+            }
+        }
+    }
+
+    @Override public void tail(Node node, int depth) {
+        // void
+    }
+
+    private static void add(Map<String, Elements> map, String key, Element el) {
+        Elements list = map.get(key);
+        if (list == null) {
+            list = new Elements(1);
+            map.put(key, list);
+        }
+        list.add(el);
+    }
+
+    List<Element> byId(String id) {
+        return get(ids, id);
+    }
+
+    List<Element> byClass(String className) {
+        return get(classes, lowerCase(className));
+    }
+
+    List<Element> byTag(String normalName) {
+        return get(tags, normalName);
+    }
+
+    private static List<Element> get(Map<String, Elements> map, String key) {
+        Elements list = map.get(key);
+        return list != null ? Collections.unmodifiableList(list) : Collections.<Element>emptyList();
+    }
+}
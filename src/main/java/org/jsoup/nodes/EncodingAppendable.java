@@ -0,0 +1,101 @@
+package org.jsoup.nodes;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ An Appendable that encodes its content as it is appended, through a fixed-size char buffer and byte buffer, and writes
+ the bytes to a channel as each buffer fills. Used to serialize nodes without building the output as a String.
+ {@link #finish()} must be called to write out the final content.
+ */
+final class EncodingAppendable implements Appendable {
+    private static final int BufferSize = 1024 * 8;
+
+    private final WritableByteChannel channel;
+    private final CharsetEncoder encoder;
+    private final CharBuffer chars;
+    private final ByteBuffer bytes;
+    private boolean empty = true; // so that output can skip a leading indent, as with a StringBuilder
+
+    EncodingAppendable(WritableByteChannel channel, Charset charset) {
+        this.channel = channel;
+        encoder = charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE) // e.g. a lone surrogate
+            .onUnmappableCharacter(CodingErrorAction.REPLACE); // not expected, as those are escaped when serialized
+        chars = CharBuffer.allocate(BufferSize);
+        bytes = ByteBuffer.allocate((int) Math.ceil(BufferSize * encoder.maxBytesPerChar()));
+    }
+
+    @Override public Appendable append(@Nullable CharSequence csq) throws IOException {
+        if (csq == null) csq = "null";
+        return append(csq, 0, csq.length());
+    }
+
+    @Override public Appendable append(@Nullable CharSequence csq, int start, int end) throws IOException {
+        if (csq == null) csq = "null";
+        if (start < end)
+            empty = false;
+        while (start < end) {
+            if (!chars.hasRemaining())
+                encode(false);
+            int len = Math.min(end - start, chars.remaining());
+            if (csq instanceof String) {
+                chars.put((String) csq, start, start + len);
+            } else {
+                for (int i = start; i < start + len; i++)
+                    chars.put(csq.charAt(i));
+            }
+            start += len;
+        }
+        return this;
+    }
+
+    @Override public Appendable append(char c) throws IOException {
+        if (!chars.hasRemaining())
+            encode(false);
+        chars.put(c);
+        empty = false;
+        return this;
+    }
+
+    boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     Encode and write out any remaining content. Does not close the channel.
+     */
+    void finish() throws IOException {
+        encode(true);
+        while (encoder.flush(bytes).isOverflow())
+            drain();
+        drain();
+    }
+
+    private void encode(boolean endOfInput) throws IOException {
+        ((Buffer) chars).flip(); // cast to avoid covariant return type change in jdk9
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, endOfInput);
+            if (!result.isOverflow())
+                break; // underflow; any remaining chars (a split surrogate pair) are kept for the next pass
+            drain();
+        }
+        chars.compact();
+        drain();
+    }
+
+    private void drain() throws IOException {
+        ((Buffer) bytes).flip();
+        while (bytes.hasRemaining())
+            channel.write(bytes);
+        ((Buffer) bytes).clear();
+    }
+}
@@ -4,13 +4,12 @@ import org.jsoup.SerializationException;
 import org.jsoup.internal.StringUtil;
 import org.jsoup.helper.Validate;
 import org.jsoup.nodes.Document.OutputSettings;
-import org.jsoup.parser.CharacterReader;
 import org.jsoup.parser.Parser;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.nio.charset.CharsetEncoder;
 import java.util.Arrays;
-import java.util.HashMap;
 
 import static org.jsoup.nodes.Document.OutputSettings.*;
 import static org.jsoup.nodes.Entities.EscapeMode.base;
@@ -24,54 +23,251 @@ public class Entities {
     private static final int empty = -1;
     private static final String emptyName = "";
     static final int codepointRadix = 36;
-    private static final char[] codeDelims = {',', ';'};
-    private static final HashMap<String, String> multipoints = new HashMap<>(); // name -> multiple character references
     private static final OutputSettings DefaultOutput = new OutputSettings();
 
     public enum EscapeMode {
         /**
          * Restricted entities suitable for XHTML output: lt, gt, amp, and quot only.
          */
-        xhtml(EntitiesData.xmlPoints, 4),
+        xhtml,
         /**
          * Default HTML output entities.
          */
-        base(EntitiesData.basePoints, 106),
+        base,
         /**
          * Complete HTML entities.
          */
-        extended(EntitiesData.fullPoints, 2125);
-
-        // table of named references to their codepoints. sorted so we can binary search. built by BuildEntities.
-        private String[] nameKeys;
-        private int[] codeVals; // limitation is the few references with multiple characters; those go into multipoints.
-
-        // table of codepoints to named entities.
-        private int[] codeKeys; // we don't support multicodepoints to single named value currently
-        private String[] nameVals;
-
-        EscapeMode(String file, int size) {
-            load(this, file, size);
+        extended;
+
+        // each mode's table is loaded on its first use, so escaping or parsing that doesn't look up entities doesn't
+        // pay to load them, and the base or xhtml modes don't load the extended table.
+        private EntityTable table() {
+            if (this == xhtml)
+                return XhtmlTable.table;
+            else if (this == base)
+                return BaseTable.table;
+            else
+                return ExtendedTable.table;
         }
 
         int codepointForName(final String name) {
-            int index = Arrays.binarySearch(nameKeys, name);
-            return index >= 0 ? codeVals[index] : empty;
+            EntityTable table = table();
+            int index = table.indexOfName(name);
+            return index >= 0 ? table.codeVals[index] : empty;
         }
 
         String nameForCodepoint(final int codepoint) {
-            final int index = Arrays.binarySearch(codeKeys, codepoint);
+            EntityTable table = table();
+            final int index = Arrays.binarySearch(table.codeKeys, codepoint);
             if (index >= 0) {
                 // the results are ordered so lower case versions of same codepoint come after uppercase, and we prefer to emit lower
                 // (and binary search for same item with multi results is undefined
-                return (index < nameVals.length - 1 && codeKeys[index + 1] == codepoint) ?
-                    nameVals[index + 1] : nameVals[index];
+                return (index < table.nameVals.length - 1 && table.codeKeys[index + 1] == codepoint) ?
+                    table.nameVals[index + 1] : table.nameVals[index];
             }
             return emptyName;
         }
+    }
+
+    /**
+     * The name and codepoint tables of an escape mode, unpacked from the EntitiesData strings.
+     */
+    private static final class EntityTable {
+        // table of named references to their codepoints. sorted so we can binary search. built by BuildEntities.
+        final String[] nameKeys;
+        final int[] codeVals;
+        final int[] codeVals2; // the second codepoint of the few references with two; empty otherwise
+
+        // table of codepoints to named entities.
+        final int[] codeKeys; // we don't support multicodepoints to single named value currently
+        final String[] nameVals;
+
+        EntityTable(String pointsData, int size) {
+            nameKeys = new String[size];
+            codeVals = new int[size];
+            codeVals2 = new int[size];
+            codeKeys = new int[size];
+            nameVals = new String[size];
+
+            // scans the data directly, as the tables are loaded during startup: e.g. NotNestedLessLess=10913,824;1887&
+            int i = 0;
+            int pos = 0;
+            final int length = pointsData.length();
+            while (pos < length) {
+                final int eq = pointsData.indexOf('=', pos);
+                final String name = pointsData.substring(pos, eq);
+                pos = eq + 1;
+
+                char c;
+                int cp1 = 0;
+                while ((c = pointsData.charAt(pos++)) != ',' && c != ';')
+                    cp1 = cp1 * codepointRadix + Character.digit(c, codepointRadix);
+                int cp2 = empty;
+                if (c == ',') {
+                    cp2 = 0;
+                    while ((c = pointsData.charAt(pos++)) != ';')
+                        cp2 = cp2 * codepointRadix + Character.digit(c, codepointRadix);
+                }
+                int index = 0;
+                while ((c = pointsData.charAt(pos++)) != '&')
+                    index = index * codepointRadix + Character.digit(c, codepointRadix);
+
+                nameKeys[i] = name;
+                codeVals[i] = cp1;
+                codeVals2[i] = cp2;
+                codeKeys[index] = cp1;
+                nameVals[index] = name;
+                i++;
+            }
+
+            Validate.isTrue(i == size, "Unexpected count of entities loaded");
+        }
+
+        int indexOfName(final String name) {
+            return Arrays.binarySearch(nameKeys, name);
+        }
+    }
+
+    // holders, so each table is loaded when first used, by the class loader
+    private static final class XhtmlTable {
+        static final EntityTable table = new EntityTable(EntitiesData.Xhtml.points, 4);
+    }
+
+    private static final class BaseTable {
+        static final EntityTable table = new EntityTable(EntitiesData.Base.points, 106);
+    }
+
+    private static final class ExtendedTable {
+        static final EntityTable table = new EntityTable(EntitiesData.Full.points, 2125);
+    }
+
+    /**
+     * (Internal) A trie over the named entities (the extended set), that lets the Tokeniser match an entity name as it
+     * reads it, one character at a time, rather than creating a String for the name and binary searching the entity
+     * tables for it. A state is an int; start from {@link #Start}, and {@link #next(int, char)} returns
+     * {@link #NoMatch} once no entity name starts with the characters read.
+     * <p>This is an internal API and may change without notice.</p>
+     */
+    public static final class NameTrie {
+        public static final int Start = 0;
+        public static final int NoMatch = -1;
+
+        // nodes are stored breadth first, so the children of node i are the nodes childStart[i] to childStart[i+1]-1,
+        // sorted by their label.
+        private static final char[] labels;
+        private static final int[] childStart;
+        private static final int[] entities; // index of the entity in the extended table; empty if not the end of a name
+        private static final boolean[] baseEntity;
+
+        static {
+            // built from the sorted names: each node covers the range of names that start with its prefix, and its
+            // children split that range by the next character.
+            final String[] names = ExtendedTable.table.nameKeys;
+            final EntityTable baseTable = BaseTable.table;
+            int max = 1;
+            for (String name : names)
+                max += name.length();
+
+            char[] nodeLabels = new char[max];
+            int[] nodeChildStart = new int[max + 1];
+            int[] nodeEntities = new int[max];
+            boolean[] nodeBase = new boolean[max];
+            int[] rangeFrom = new int[max];
+            int[] rangeTo = new int[max];
+            int[] depth = new int[max];
+
+            rangeTo[0] = names.length;
+            int count = 1;
+            for (int node = 0; node < count; node++) {
+                int from = rangeFrom[node];
+                final int to = rangeTo[node];
+                final int d = depth[node];
+                nodeEntities[node] = empty;
+                if (from < to && names[from].length() == d) { // the name that ends at this node sorts first
+                    nodeEntities[node] = from;
+                    nodeBase[node] = baseTable.indexOfName(names[from]) >= 0;
+                    from++;
+                }
+
+                nodeChildStart[node] = count;
+                while (from < to) {
+                    final char c = names[from].charAt(d);
+                    int end = from + 1;
+                    while (end < to && names[end].charAt(d) == c)
+                        end++;
+                    nodeLabels[count] = c;
+                    rangeFrom[count] = from;
+                    rangeTo[count] = end;
+                    depth[count] = d + 1;
+                    count++;
+                    from = end;
+                }
+            }
+            nodeChildStart[count] = count;
+
+            labels = Arrays.copyOf(nodeLabels, count);
+            childStart = Arrays.copyOf(nodeChildStart, count + 1);
+            entities = Arrays.copyOf(nodeEntities, count);
+            baseEntity = Arrays.copyOf(nodeBase, count);
+        }
+
+        private NameTrie() {}
+
+        /**
+         * Step from the given state by one character.
+         * @param state the current state; {@link #Start} to begin a name
+         * @param c the next character of the name
+         * @return the next state, or {@link #NoMatch} if no entity name continues with that character
+         */
+        public static int next(int state, char c) {
+            if (state < 0)
+                return NoMatch;
+            int lo = childStart[state];
+            int hi = childStart[state + 1] - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                char label = labels[mid];
+                if (label < c)
+                    lo = mid + 1;
+                else if (label > c)
+                    hi = mid - 1;
+                else
+                    return mid;
+            }
+            return NoMatch;
+        }
 
-        private int size() {
-            return nameKeys.length;
+        /**
+         * Check if the characters read to reach this state make a complete named entity.
+         * @see Entities#isNamedEntity(String)
+         */
+        public static boolean isNamed(int state) {
+            return state >= 0 && entities[state] != empty;
+        }
+
+        /**
+         * Check if the characters read to reach this state make a named entity in the base set.
+         * @see Entities#isBaseNamedEntity(String)
+         */
+        public static boolean isBase(int state) {
+            return state >= 0 && baseEntity[state];
+        }
+
+        /**
+         * Get the codepoints of the entity at this state.
+         * @see Entities#codepointsForName(String, int[])
+         */
+        public static int codepoints(int state, int[] codepoints) {
+            if (!isNamed(state))
+                return 0;
+            return Entities.codepoints(entities[state], codepoints);
+        }
+
+        /**
+         * Get the name of the entity at this state, or null if the state is not a complete entity.
+         */
+        public static @Nullable String name(int state) {
+            return isNamed(state) ? ExtendedTable.table.nameKeys[entities[state]] : null;
         }
     }
 
@@ -106,28 +302,27 @@ public class Entities {
      * @return the string value of the character(s) represented by this entity, or "" if not defined
      */
     public static String getByName(String name) {
-        String val = multipoints.get(name);
-        if (val != null)
-            return val;
-        int codepoint = extended.codepointForName(name);
-        if (codepoint != empty)
-            return new String(new int[]{codepoint}, 0, 1);
-        return emptyName;
+        EntityTable table = ExtendedTable.table;
+        int index = table.indexOfName(name);
+        if (index < 0)
+            return emptyName;
+        if (table.codeVals2[index] != empty)
+            return new String(new int[]{table.codeVals[index], table.codeVals2[index]}, 0, 2);
+        return new String(new int[]{table.codeVals[index]}, 0, 1);
     }
 
     public static int codepointsForName(final String name, final int[] codepoints) {
-        String val = multipoints.get(name);
-        if (val != null) {
-            codepoints[0] = val.codePointAt(0);
-            codepoints[1] = val.codePointAt(1);
-            return 2;
-        }
-        int codepoint = extended.codepointForName(name);
-        if (codepoint != empty) {
-            codepoints[0] = codepoint;
+        int index = ExtendedTable.table.indexOfName(name);
+        return index >= 0 ? codepoints(index, codepoints) : 0;
+    }
+
+    private static int codepoints(int index, int[] codepoints) {
+        EntityTable table = ExtendedTable.table;
+        codepoints[0] = table.codeVals[index];
+        if (table.codeVals2[index] == empty)
             return 1;
-        }
-        return 0;
+        codepoints[1] = table.codeVals2[index];
+        return 2;
     }
 
     /**
@@ -307,49 +502,4 @@ public class Entities {
             return fallback;
         }
     }
-
-    private static void load(EscapeMode e, String pointsData, int size) {
-        e.nameKeys = new String[size];
-        e.codeVals = new int[size];
-        e.codeKeys = new int[size];
-        e.nameVals = new String[size];
-
-        int i = 0;
-        CharacterReader reader = new CharacterReader(pointsData);
-        try {
-            while (!reader.isEmpty()) {
-                // NotNestedLessLess=10913,824;1887&
-
-                final String name = reader.consumeTo('=');
-                reader.advance();
-                final int cp1 = Integer.parseInt(reader.consumeToAny(codeDelims), codepointRadix);
-                final char codeDelim = reader.current();
-                reader.advance();
-                final int cp2;
-                if (codeDelim == ',') {
-                    cp2 = Integer.parseInt(reader.consumeTo(';'), codepointRadix);
-                    reader.advance();
-                } else {
-                    cp2 = empty;
-                }
-                final String indexS = reader.consumeTo('&');
-                final int index = Integer.parseInt(indexS, codepointRadix);
-                reader.advance();
-
-                e.nameKeys[i] = name;
-                e.codeVals[i] = cp1;
-                e.codeKeys[index] = cp1;
-                e.nameVals[index] = name;
-
-                if (cp2 != empty) {
-                    multipoints.put(name, new String(new int[]{cp1, cp2}, 0, 2));
-                }
-                i++;
-            }
-
-            Validate.isTrue(i == size, "Unexpected count of entities loaded");
-        } finally {
-            reader.close();
-        }
-    }
 }
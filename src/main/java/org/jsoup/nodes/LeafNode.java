@@ -14,18 +14,19 @@ abstract class LeafNode extends Node {
 
     @Override
     public final Attributes attributes() {
-        ensureAttributes();
-        return (Attributes) value;
+        return ensureAttributes();
     }
 
-    private void ensureAttributes() {
-        if (!hasAttributes()) {
-            Object coreValue = value;
-            Attributes attributes = new Attributes();
-            value = attributes;
-            if (coreValue != null)
-                attributes.put(nodeName(), (String) coreValue);
-        }
+    private Attributes ensureAttributes() {
+        if (hasAttributes())
+            return (Attributes) value;
+        Attributes attributes = new Attributes();
+        if (value != null)
+            attributes.put(nodeName(), (String) value);
+        if (isFrozen()) // may be read concurrently, so not set; a read-only copy instead
+            return attributes.freeze();
+        value = attributes;
+        return attributes;
     }
 
     String coreValue() {
@@ -46,6 +47,9 @@ abstract class LeafNode extends Node {
 
     @Override
     public Node attr(String key, String value) {
+        checkNotFrozen();
+        if (parentNode instanceof Element && ((Element) parentNode).inTextCache)
+            ((Element) parentNode).invalidateTextCache();
         if (!hasAttributes() && key.equals(nodeName())) {
             this.value = value;
         } else {
@@ -78,6 +82,12 @@ abstract class LeafNode extends Node {
         return hasParent() ? parent().baseUri() : "";
     }
 
+    @Override
+    void freeze(boolean holdChildren) {
+        if (hasAttributes())
+            ((Attributes) value).freeze();
+    }
+
     @Override
     protected void doSetBaseUri(String baseUri) {
         // noop
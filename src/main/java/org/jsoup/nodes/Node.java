@@ -10,11 +10,13 @@ import org.jsoup.select.NodeVisitor;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -450,6 +452,30 @@ public abstract class Node implements Cloneable {
         // Element overrides this to clear its shadow children elements
     }
 
+    /**
+     Check if this node is in a {@link Document#freeze() frozen} document. A leaf node is frozen with its parent element.
+     */
+    boolean isFrozen() {
+        return parentNode instanceof Element && ((Element) parentNode).frozen;
+    }
+
+    /**
+     Make this node read-only, as part of a document freeze. Element overrides this to hold its child element list (if
+     holdChildren), and to freeze its attributes.
+     */
+    void freeze(boolean holdChildren) {
+        // no-op by default
+    }
+
+    final void checkNotFrozen() {
+        if (isFrozen())
+            throw frozenException();
+    }
+
+    static UnsupportedOperationException frozenException() {
+        return new UnsupportedOperationException("The document is frozen, so can't be modified. Modify a clone() of it instead.");
+    }
+
     /**
      * Replace this node in the DOM with the supplied node.
      * @param in the node that will will replace the existing node.
@@ -470,6 +496,7 @@ public abstract class Node implements Cloneable {
     protected void replaceChild(Node out, Node in) {
         Validate.isTrue(out.parentNode == this);
         Validate.notNull(in);
+        checkNotFrozen();
         if (in.parentNode != null)
             in.parentNode.removeChild(in);
 
@@ -482,6 +509,7 @@ public abstract class Node implements Cloneable {
 
     protected void removeChild(Node out) {
         Validate.isTrue(out.parentNode == this);
+        checkNotFrozen();
         final int index = out.siblingIndex;
         ensureChildNodes().remove(index);
         reindexChildren(index);
@@ -490,6 +518,7 @@ public abstract class Node implements Cloneable {
 
     protected void addChildren(Node... children) {
         //most used. short circuit addChildren(int), which hits reindex children and array copy
+        checkNotFrozen();
         final List<Node> nodes = ensureChildNodes();
 
         for (Node child: children) {
@@ -504,6 +533,7 @@ public abstract class Node implements Cloneable {
         if (children.length == 0) {
             return;
         }
+        checkNotFrozen(); // before any children are moved from their current parent
         final List<Node> nodes = ensureChildNodes();
 
         // fast path - if used as a wrap (index=0, children = child[0].parent.children - do inplace
@@ -542,6 +572,7 @@ public abstract class Node implements Cloneable {
     }
     
     protected void reparentChild(Node child) {
+        checkNotFrozen();
         child.setParentNode(this);
     }
 
@@ -690,7 +721,11 @@ public abstract class Node implements Cloneable {
     }
 
     protected void outerHtml(Appendable accum) {
-        NodeTraversor.traverse(new OuterHtmlVisitor(accum, NodeUtils.outputSettings(this)), this);
+        outerHtml(accum, NodeUtils.outputSettings(this));
+    }
+
+    void outerHtml(Appendable accum, Document.OutputSettings out) {
+        NodeTraversor.traverse(new OuterHtmlVisitor(accum, out), this);
     }
 
     /**
@@ -713,6 +748,66 @@ public abstract class Node implements Cloneable {
         return appendable;
     }
 
+    /**
+     Write this node's outer HTML to an output stream, encoded in the charset of the document's output settings. The
+     HTML is encoded as it is generated, so is not held in memory as a String. The stream is not closed.
+     @param out the output stream to write to
+     @throws IOException if writing to the stream fails
+     @see #writeTo(OutputStream, Document.OutputSettings)
+     @since 1.15.2
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        writeTo(out, NodeUtils.outputSettings(this));
+    }
+
+    /**
+     Write this node's outer HTML to an output stream, using the specified output settings (e.g. to set the charset, or
+     pretty-printing). The HTML is encoded as it is generated, so is not held in memory as a String. The stream is not
+     closed.
+     @param out the output stream to write to
+     @param settings the output settings to use
+     @throws IOException if writing to the stream fails
+     @since 1.15.2
+     */
+    public void writeTo(OutputStream out, Document.OutputSettings settings) throws IOException {
+        Validate.notNull(out);
+        writeTo(Channels.newChannel(out), settings);
+    }
+
+    /**
+     Write this node's outer HTML to a channel, encoded in the charset of the document's output settings. The HTML is
+     encoded as it is generated, so is not held in memory as a String. The channel is not closed.
+     @param channel the channel to write to. Should be in blocking mode.
+     @throws IOException if writing to the channel fails
+     @see #writeTo(WritableByteChannel, Document.OutputSettings)
+     @since 1.15.2
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        writeTo(channel, NodeUtils.outputSettings(this));
+    }
+
+    /**
+     Write this node's outer HTML to a channel, using the specified output settings. The HTML is encoded as it is
+     generated, so is not held in memory as a String. The channel is not closed.
+     @param channel the channel to write to. Should be in blocking mode.
+     @param settings the output settings to use
+     @throws IOException if writing to the channel fails
+     @since 1.15.2
+     */
+    public void writeTo(WritableByteChannel channel, Document.OutputSettings settings) throws IOException {
+        Validate.notNull(channel);
+        Validate.notNull(settings);
+        EncodingAppendable accum = new EncodingAppendable(channel, settings.charset());
+        try {
+            outerHtml(accum, settings);
+        } catch (SerializationException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            throw e;
+        }
+        accum.finish();
+    }
+
     /**
      * Gets this node's outer HTML.
      * @return outer HTML.
@@ -777,23 +872,23 @@ public abstract class Node implements Cloneable {
     public Node clone() {
         Node thisClone = doClone(null); // splits for orphan
 
-        // Queue up nodes that need their children cloned (BFS).
-        final LinkedList<Node> nodesToProcess = new LinkedList<>();
-        nodesToProcess.add(thisClone);
-
-        while (!nodesToProcess.isEmpty()) {
-            Node currParent = nodesToProcess.remove();
-
-            final int size = currParent.childNodeSize();
-            for (int i = 0; i < size; i++) {
-                final List<Node> childNodes = currParent.ensureChildNodes();
-                Node childClone = childNodes.get(i).doClone(currParent);
-                childNodes.set(i, childClone);
-                nodesToProcess.add(childClone);
+        // Clone each node's children, walking depth-first through the cloned tree (so without a queue of nodes)
+        Node node = thisClone;
+        while (true) {
+            final int size = node.childNodeSize();
+            if (size > 0) {
+                final List<Node> childNodes = node.ensureChildNodes();
+                for (int i = 0; i < size; i++)
+                    childNodes.set(i, childNodes.get(i).doClone(node));
+                node = childNodes.get(0);
+                continue;
             }
+            while (node != thisClone && node.nextSibling() == null)
+                node = node.parentNode;
+            if (node == thisClone)
+                return thisClone;
+            node = node.nextSibling();
         }
-
-        return thisClone;
     }
 
     /**
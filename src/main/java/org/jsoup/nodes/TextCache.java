@@ -0,0 +1,125 @@
+package org.jsoup.nodes;
+
+import org.jsoup.internal.StringUtil;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ A cache of the normalized text of a Document's elements, used by {@link Element#text()} when the document has {@link
+ Document#cacheText(boolean) text caching} enabled. An element's text is assembled from the cached text segments of
+ its child elements, so getting the text of an element and then of its descendants (or the reverse) reads each node
+ once. The cache is discarded by the Document when a cached element, or an ancestor, changes.
+
+ <p>Text normalization depends on what precedes each node (e.g. a leading space is dropped after a space), so each
+ segment is held as it would be normalized following a space, along with whether it is preceded by a space when it
+ follows other text. That is sufficient to join the segments as {@code text()} would have normalized the whole.</p>
+ */
+final class TextCache {
+    private final Map<Element, Segment> segments = new IdentityHashMap<>();
+
+    /** An element's normalized text, following a space; and if a space separates it from preceding non-space text. */
+    private static final class Segment {
+        final String text;
+        final boolean spaced;
+        String trimmed; // the element's text(), on first use
+
+        Segment(String text, boolean spaced) {
+            this.text = text;
+            this.spaced = spaced;
+        }
+    }
+
+    String text(Element el) {
+        Segment segment = segments.get(el);
+        if (segment == null) {
+            NodeTraversor.filter(segmentBuilder, el);
+            segment = segments.get(el);
+            // mark the ancestors too, as moving or renaming them could change this text (e.g. into a pre)
+            for (Element parent = el.parent(); parent != null; parent = parent.parent())
+                parent.inTextCache = true;
+        }
+        if (segment.trimmed == null)
+            segment.trimmed = segment.text.trim();
+        return segment.trimmed;
+    }
+
+    // builds the segments bottom-up, for the elements not already cached
+    private final NodeFilter segmentBuilder = new NodeFilter() {
+        @Override public FilterResult head(Node node, int depth) {
+            if (node instanceof Element && segments.containsKey(node))
+                return FilterResult.SKIP_ENTIRELY;
+            return FilterResult.CONTINUE;
+        }
+
+        @Override public FilterResult tail(Node node, int depth) {
+            if (node instanceof Element) {
+                Element el = (Element) node;
+                segments.put(el, segment(el));
+                el.inTextCache = true;
+            }
+            return FilterResult.CONTINUE;
+        }
+    };
+
+    /**
+     Builds the element's segment from its text nodes and the segments of its child elements, following the same
+     rules as Element.text(). Tracks the output both after a space (sb) and after non-space text, which differ only by a
+     leading space (spaced) until either produces any output.
+     */
+    private Segment segment(Element el) {
+        final StringBuilder sb = StringUtil.borrowBuilder();
+        boolean spaced = el.isBlock() || el.normalName().equals("br");
+        final List<Node> children = el.childNodes;
+        final int size = el.childNodeSize();
+        for (int i = 0; i < size; i++) {
+            Node child = children.get(i);
+            boolean leading = sb.length() == 0 && !spaced; // neither has output, so after text, this child isn't after a space
+            if (child instanceof TextNode) {
+                TextNode textNode = (TextNode) child;
+                String text = textNode.getWholeText();
+                if (Element.preserveWhitespace(el) || textNode instanceof CDataNode) {
+                    sb.append(text);
+                } else {
+                    if (leading && startsWithWhitespace(text))
+                        spaced = true;
+                    StringUtil.appendNormalisedWhitespace(sb, text, sb.length() == 0 || TextNode.lastCharIsWhitespace(sb));
+                }
+            } else if (child instanceof Element) {
+                Element childEl = (Element) child;
+                Segment segment = segments.get(childEl);
+                if (leading)
+                    spaced = segment.spaced;
+                else if (segment.spaced && sb.length() > 0 && !TextNode.lastCharIsWhitespace(sb))
+                    sb.append(' ');
+                sb.append(segment.text);
+
+                // a space between a block and a following text node
+                if (childEl.isBlock() && childEl.nextSibling() instanceof TextNode) {
+                    if (sb.length() == 0)
+                        spaced = true;
+                    else if (!TextNode.lastCharIsWhitespace(sb))
+                        sb.append(' ');
+                }
+            }
+        }
+        return new Segment(StringUtil.releaseBuilder(sb), spaced);
+    }
+
+    /** Test if normalizing this text, not after a space, would output a leading space. */
+    private static boolean startsWithWhitespace(String text) {
+        final int len = text.length();
+        int c;
+        for (int i = 0; i < len; i += Character.charCount(c)) {
+            c = text.codePointAt(i);
+            if (StringUtil.isActuallyWhitespace(c))
+                return true;
+            if (!StringUtil.isInvisibleChar(c))
+                return false;
+        }
+        return false;
+    }
+}
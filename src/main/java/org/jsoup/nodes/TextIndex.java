@@ -0,0 +1,123 @@
+package org.jsoup.nodes;
+
+import org.jsoup.helper.Validate;
+import org.jsoup.internal.StringUtil;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.NodeVisitor;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ (Internal) An index of the normalized text of an element and its descendants. The root element's text is built once,
+ recording where the text of each of its descendants lies within it, so that the text of any of those elements can be
+ read (as {@link Element#text()} would return it) without walking its subtree again.
+
+ <p>The index is not updated when the elements change, so should only be used while they are not modified. It is used
+ by the selector's {@link org.jsoup.select.Collector Collector}, so that a query like {@code div:contains(price)} reads
+ each text node once per select, rather than once per containing div. It is public only so that the Collector can
+ reach the text accumulation of {@link Element#text()}.</p>
+
+ <p>This is an internal API and may change or be removed without notice; don't depend on it.</p>
+ */
+public final class TextIndex {
+    private final Element root;
+    private final String text;
+    private final Map<Element, int[]> regions = new IdentityHashMap<>(); // the start and end of each element's text
+
+    /**
+     Create a new text index, of the root element and its descendants.
+     @param root the element to index
+     */
+    public TextIndex(Element root) {
+        Validate.notNull(root);
+        this.root = root;
+
+        final StringBuilder accum = StringUtil.borrowBuilder();
+        final Element.TextAccumulator accumulator = new Element.TextAccumulator(accum);
+        NodeTraversor.traverse(new NodeVisitor() {
+            public void head(Node node, int depth) {
+                accumulator.head(node, depth);
+                if (node instanceof Element)
+                    regions.put((Element) node, new int[]{accum.length(), 0});
+            }
+
+            public void tail(Node node, int depth) {
+                if (node instanceof Element) {
+                    // trimmed, as text() is. Before the element's first text, its normalized text only differs from
+                    // the region by whitespace (which depends on the preceding text), so that's trimmed too
+                    int[] region = regions.get(node);
+                    int start = region[0], end = accum.length();
+                    while (start < end && accum.charAt(start) <= ' ')
+                        start++;
+                    while (end > start && accum.charAt(end - 1) <= ' ')
+                        end--;
+                    region[0] = start;
+                    region[1] = end;
+                }
+                accumulator.tail(node, depth);
+            }
+        }, root);
+        text = StringUtil.releaseBuilder(accum);
+    }
+
+    /**
+     Get the root element of this index.
+     @return the root element
+     */
+    public Element root() {
+        return root;
+    }
+
+    /**
+     Test if the element is in this index; i.e. it is the root element, or a descendant of it.
+     @param el the element to test
+     @return true if the element is indexed
+     */
+    public boolean indexes(Element el) {
+        return regions.containsKey(el);
+    }
+
+    /**
+     Get the text of the indexed element, as {@link Element#text()} would return it.
+     @param el an element in this index
+     @return the element's normalized text
+     */
+    public String text(Element el) {
+        int[] region = region(el);
+        return text.substring(region[0], region[1]);
+    }
+
+    /**
+     Get the text that each indexed element's text is a region of, from {@link #start(Element)} to {@link
+     #end(Element)}. That's the root's normalized text, before it is trimmed.
+     @return the indexed text
+     */
+    public String indexedText() {
+        return text;
+    }
+
+    /**
+     Get the position in the {@link #indexedText()} where the element's text starts.
+     @param el an element in this index
+     @return the start of the element's text
+     */
+    public int start(Element el) {
+        return region(el)[0];
+    }
+
+    /**
+     Get the position in the {@link #indexedText()} where the element's text ends.
+     @param el an element in this index
+     @return the end (exclusive) of the element's text
+     */
+    public int end(Element el) {
+        return region(el)[1];
+    }
+
+    private int[] region(Element el) {
+        int[] region = regions.get(el);
+        Validate.isTrue(region != null, "The element is not in this index");
+        return region;
+    }
+}
@@ -2,6 +2,7 @@ package org.jsoup.parser;
 
 import org.jsoup.UncheckedIOException;
 import org.jsoup.helper.Validate;
+import org.jsoup.nodes.Entities;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
@@ -64,6 +65,44 @@ public final class CharacterReader {
         }
     }
 
+    /**
+     Closes the input, but keeps the buffer and string cache, so that this reader can be {@link #reset(Reader) reset}
+     to read another input.
+     */
+    void closeInput() {
+        if (reader == null)
+            return;
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+        } finally {
+            reader = null;
+        }
+    }
+
+    /**
+     Resets this reader to read a new input from its start, reusing the buffer and string cache. Any current input is
+     closed.
+     @param input the new input
+     */
+    void reset(Reader input) {
+        Validate.notNull(input);
+        Validate.isTrue(input.markSupported());
+        Validate.notNull(charBuf, "Reader has been closed");
+        closeInput();
+        reader = input;
+        bufLength = 0;
+        bufSplitPoint = 0;
+        bufPos = 0;
+        readerPos = 0;
+        bufMark = -1;
+        readFully = false;
+        if (newlinePositions != null)
+            newlinePositions.clear();
+        lineNumberOffset = 1;
+        bufferUp();
+    }
+
     private boolean readFully; // if the underlying stream has been completely read, no value in further buffering
     private void bufferUp() {
         if (readFully || bufPos < bufSplitPoint)
@@ -369,11 +408,17 @@ public final class CharacterReader {
         final char[] val = charBuf;
         final int charLen = chars.length;
         int i;
+        char max = 0;
+        for (i = 0; i < charLen; i++) {
+            if (chars[i] > max) max = chars[i];
+        }
 
         OUTER: while (pos < remaining) {
-            for (i = 0; i < charLen; i++) {
-                if (val[pos] == chars[i])
-                    break OUTER;
+            if (val[pos] <= max) { // skips the search for chars that can't match, which is most text
+                for (i = 0; i < charLen; i++) {
+                    if (val[pos] == chars[i])
+                        break OUTER;
+                }
             }
             pos++;
         }
@@ -388,9 +433,10 @@ public final class CharacterReader {
         final int start = pos;
         final int remaining = bufLength;
         final char[] val = charBuf;
+        final char max = chars.length > 0 ? chars[chars.length - 1] : 0;
 
         while (pos < remaining) {
-            if (Arrays.binarySearch(chars, val[pos]) >= 0)
+            if (val[pos] <= max && Arrays.binarySearch(chars, val[pos]) >= 0)
                 break;
             pos++;
         }
@@ -537,6 +583,34 @@ public final class CharacterReader {
         return cacheString(charBuf, stringCache, start, bufPos - start);
     }
 
+    /**
+     Consumes the same letter then digit sequence as {@link #consumeLetterThenDigitSequence()}, matching it against the
+     named entities as it goes, without creating a String for it.
+     @return the {@link Entities.NameTrie} state for the sequence; {@link Entities.NameTrie#NoMatch} if it does not name
+     an entity (or is a prefix of one)
+     */
+    int consumeEntityName() {
+        bufferUp();
+        int state = Entities.NameTrie.Start;
+        while (bufPos < bufLength) {
+            char c = charBuf[bufPos];
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || Character.isLetter(c)) {
+                state = Entities.NameTrie.next(state, c);
+                bufPos++;
+            } else
+                break;
+        }
+        while (!isEmptyNoBufferUp()) {
+            char c = charBuf[bufPos];
+            if (c >= '0' && c <= '9') {
+                state = Entities.NameTrie.next(state, c);
+                bufPos++;
+            } else
+                break;
+        }
+        return state;
+    }
+
     String consumeHexSequence() {
         bufferUp();
         int start = bufPos;
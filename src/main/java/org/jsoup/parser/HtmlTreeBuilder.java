@@ -80,10 +80,17 @@ public class HtmlTreeBuilder extends TreeBuilder {
         headElement = null;
         formElement = null;
         contextElement = null;
-        formattingElements = new ArrayList<>();
-        tmplInsertMode = new ArrayList<>();
-        pendingTableCharacters = new ArrayList<>();
-        emptyEnd = new Token.EndTag();
+        if (parser.reuse() && formattingElements != null) {
+            formattingElements.clear();
+            tmplInsertMode.clear();
+            pendingTableCharacters.clear();
+            emptyEnd.reset();
+        } else {
+            formattingElements = new ArrayList<>();
+            tmplInsertMode = new ArrayList<>();
+            pendingTableCharacters = new ArrayList<>();
+            emptyEnd = new Token.EndTag();
+        }
         framesetOk = true;
         fosterInserts = false;
         fragmentParsing = false;
@@ -149,6 +156,7 @@ public class HtmlTreeBuilder extends TreeBuilder {
         }
 
         runParser();
+        completeParse();
         if (context != null) {
             // depending on context and the input html, content may have been added outside of the root el
             // e.g. context=p, input=div, the div will have been pushed out.
@@ -238,7 +246,7 @@ public class HtmlTreeBuilder extends TreeBuilder {
         // handle empty unknown tags
         // when the spec expects an empty tag, will directly hit insertEmpty, so won't generate this fake end tag.
         if (startTag.isSelfClosing()) {
-            Element el = insertEmpty(startTag);
+            Element el = insertEmptyNode(startTag); // will be closed by the emitted end tag
             stack.add(el);
             tokeniser.transition(TokeniserState.Data); // handles <script />, otherwise needs breakout steps from script data
             tokeniser.emit(emptyEnd.reset().name(el.tagName()));  // ensure we get out of whatever state we are in. emitted for yielded processing
@@ -262,6 +270,12 @@ public class HtmlTreeBuilder extends TreeBuilder {
     }
 
     Element insertEmpty(Token.StartTag startTag) {
+        Element el = insertEmptyNode(startTag);
+        onNodeClosed(el); // not pushed to the stack, so is closed as soon as it is inserted
+        return el;
+    }
+
+    private Element insertEmptyNode(Token.StartTag startTag) {
         Tag tag = tagFor(startTag.name(), settings);
         Element el = new Element(tag, null, settings.normalizeAttributes(startTag.attributes));
         insertNode(el);
@@ -288,6 +302,8 @@ public class HtmlTreeBuilder extends TreeBuilder {
         insertNode(el);
         if (onStack)
             stack.add(el);
+        else
+            onNodeClosed(el);
         return el;
     }
 
@@ -297,8 +313,11 @@ public class HtmlTreeBuilder extends TreeBuilder {
     }
 
     void insert(Token.Character characterToken) {
+        insert(characterToken, currentElement()); // will be doc if no current element; allows for whitespace to be inserted into the doc root object (not on the stack)
+    }
+
+    void insert(Token.Character characterToken, Element el) {
         final Node node;
-        Element el = currentElement(); // will be doc if no current element; allows for whitespace to be inserted into the doc root object (not on the stack)
         final String tagName = el.normalName();
         final String data = characterToken.getData();
 
@@ -327,11 +346,6 @@ public class HtmlTreeBuilder extends TreeBuilder {
         }
     }
 
-    Element pop() {
-        int size = stack.size();
-        return stack.remove(size-1);
-    }
-
     void push(Element element) {
         stack.add(element);
     }
@@ -379,6 +393,7 @@ public class HtmlTreeBuilder extends TreeBuilder {
             Element next = stack.get(pos);
             if (next == el) {
                 stack.remove(pos);
+                onNodeClosed(el);
                 return true;
             }
         }
@@ -390,6 +405,7 @@ public class HtmlTreeBuilder extends TreeBuilder {
         for (int pos = stack.size() -1; pos >= 0; pos--) {
             Element el = stack.get(pos);
             stack.remove(pos);
+            onNodeClosed(el);
             if (el.normalName().equals(elName))
                 return el;
         }
@@ -401,6 +417,7 @@ public class HtmlTreeBuilder extends TreeBuilder {
         for (int pos = stack.size() -1; pos >= 0; pos--) {
             Element next = stack.get(pos);
             stack.remove(pos);
+            onNodeClosed(next);
             if (inSorted(next.normalName(), elNames))
                 break;
         }
@@ -413,6 +430,7 @@ public class HtmlTreeBuilder extends TreeBuilder {
                 break;
             } else {
                 stack.remove(pos);
+                onNodeClosed(next);
             }
         }
     }
@@ -434,8 +452,10 @@ public class HtmlTreeBuilder extends TreeBuilder {
             Element next = stack.get(pos);
             if (StringUtil.in(next.normalName(), nodeNames) || next.normalName().equals("html"))
                 break;
-            else
+            else {
                 stack.remove(pos);
+                onNodeClosed(next);
+            }
         }
     }
 
@@ -458,6 +478,7 @@ public class HtmlTreeBuilder extends TreeBuilder {
 
     void replaceOnStack(Element out, Element in) {
         replaceInQueue(stack, out, in);
+        onNodeClosed(out);
     }
 
     private void replaceInQueue(ArrayList<Element> queue, Element out, Element in) {
@@ -245,7 +245,7 @@ enum HtmlTreeBuilderState {
                     Element head = tb.getHeadElement();
                     tb.push(head);
                     tb.process(t, InHead);
-                    tb.removeFromStack(head);
+                    tb.getStack().remove(head); // not via removeFromStack, as the head was already closed
                 } else if (name.equals("head")) {
                     tb.error(this);
                     return false;
@@ -407,7 +407,7 @@ enum HtmlTreeBuilderState {
                             second.remove();
                         // pop up to html element
                         while (stack.size() > 1)
-                            stack.remove(stack.size() - 1);
+                            tb.pop();
                         tb.insert(startTag);
                         tb.transition(InFrameset);
                     }
@@ -1687,15 +1687,21 @@ enum HtmlTreeBuilderState {
             } else if (t.isDoctype() || (t.isStartTag() && t.asStartTag().normalName().equals("html"))) {
                 return tb.process(t, InBody);
             } else if (isWhitespace(t)) {
-                // allows space after </html>, and put the body back on stack to allow subsequent tags if any
+                // allows space after </html> in the document, and keeps html and body on the stack to allow subsequent
+                // tags if any. (Rather than popping and re-pushing them, so they are only closed once, at the end.)
                 // todo - might be better for </body> and </html> to close them, allow trailing space, and then reparent
                 //  that space into body if other tags get re-added. but that's overkill for now
-                Element html = tb.popStackToClose("html");
-                tb.insert(t.asCharacter());
+                Element html = tb.getFromStack("html");
                 if (html != null) {
-                    tb.stack.add(html);
                     Element body = html.selectFirst("body");
-                    if (body != null) tb.stack.add(body);
+                    while (tb.currentElement() != html && tb.currentElement() != body)
+                        tb.pop();
+                    tb.insert(t.asCharacter(), tb.getDocument());
+                    if (body != null && tb.currentElement() == html)
+                        tb.push(body);
+                } else {
+                    tb.popStackToClose("html");
+                    tb.insert(t.asCharacter());
                 }
             }else if (t.isEOF()) {
                 // nice work chuck
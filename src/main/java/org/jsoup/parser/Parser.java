@@ -1,9 +1,13 @@
 package org.jsoup.parser;
 
+import org.jsoup.helper.Validate;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
 
+import javax.annotation.Nullable;
 import java.io.Reader;
 import java.io.StringReader;
 import java.util.List;
@@ -16,6 +20,11 @@ public class Parser {
     private TreeBuilder treeBuilder;
     private ParseErrorList errors;
     private ParseSettings settings;
+    private @Nullable Evaluator stopAfter;
+    private int maxElements = 0;
+    private boolean reuse = false;
+    private @Nullable StringPool stringPool;
+    private boolean leanDom = false;
 
     /**
      * Create a new Parser, using the specified TreeBuilder
@@ -39,6 +48,11 @@ public class Parser {
         treeBuilder = copy.treeBuilder.newInstance(); // because extended
         errors = new ParseErrorList(copy.errors); // only copies size, not contents
         settings = new ParseSettings(copy.settings);
+        stopAfter = copy.stopAfter;
+        maxElements = copy.maxElements;
+        reuse = copy.reuse;
+        stringPool = copy.stringPool;
+        leanDom = copy.leanDom;
     }
     
     public Document parseInput(String html, String baseUri) {
@@ -108,6 +122,158 @@ public class Parser {
         return settings;
     }
 
+    /**
+     Stop the parse early, once an element matching the query has been completely parsed (that is, its end tag has
+     been reached). The input is then closed without reading further, and the partially parsed Document is returned.
+     The Document is well-formed, containing only the content up to and including the matched element.
+     <p>E.g. {@code stopAfter("head")} parses just the document head (which is complete when the body starts), and
+     {@code stopAfter("article")} parses up to the end of the first article.</p>
+     <p>When used with a {@link org.jsoup.Connection}, the response body is only read as far as needed, saving the
+     remaining download.</p>
+     <p>Applies to document parses, not fragment parses.</p>
+     @param query the {@link org.jsoup.select.Selector} query that matches the final element to parse
+     @return this, for chaining
+     @since 1.15.2
+     */
+    public Parser stopAfter(String query) {
+        Validate.notEmpty(query);
+        return stopAfter(QueryParser.parse(query));
+    }
+
+    /**
+     Stop the parse early, once an element matching the evaluator has been completely parsed.
+     @param evaluator the evaluator that matches the final element to parse, or {@code null} to parse all the input
+     @return this, for chaining
+     @see #stopAfter(String)
+     @since 1.15.2
+     */
+    public Parser stopAfter(@Nullable Evaluator evaluator) {
+        stopAfter = evaluator;
+        return this;
+    }
+
+    /**
+     Get the early-exit evaluator, if set.
+     @return the evaluator, or {@code null} if the parse will read all the input
+     @see #stopAfter(String)
+     @since 1.15.2
+     */
+    public @Nullable Evaluator stopAfter() {
+        return stopAfter;
+    }
+
+    /**
+     Stop the parse early, once this many elements have been completely parsed. The input is then closed without
+     reading further, and the partially parsed Document is returned. This bounds the work and memory used to parse
+     untrusted or very large input. (Elements that are still open when the parse stops are also retained.)
+     <p>Applies to document parses, not fragment parses.</p>
+     @param maxElements the maximum number of elements to parse; 0 for unlimited (the default)
+     @return this, for chaining
+     @since 1.15.2
+     */
+    public Parser maxElements(int maxElements) {
+        Validate.isTrue(maxElements >= 0, "maxElements must be 0 (unlimited) or greater");
+        this.maxElements = maxElements;
+        return this;
+    }
+
+    /**
+     Get the maximum number of elements to parse.
+     @return the maximum number of elements to parse; 0 if unlimited
+     @see #maxElements(int)
+     @since 1.15.2
+     */
+    public int maxElements() {
+        return maxElements;
+    }
+
+    /**
+     Set whether this parser reuses its working buffers between parses. When enabled, the input buffer, string cache,
+     tokeniser, and tree building collections of a completed parse are kept, and reset for the next parse rather than
+     allocated again. This reduces the garbage created when parsing many documents, e.g. in a server.
+     <p>A parser is not thread-safe; a reusing parser should be used by one thread at a time, e.g. by holding one per
+     thread in a {@link ThreadLocal}. Each Document parsed gets its own copy of this parser (without the buffers), so
+     later modifications of the document, such as {@link Element#html(String)}, don't use the shared buffers.</p>
+     @param reuse true to reuse buffers between parses; false (the default) to allocate them for each parse
+     @return this, for chaining
+     @since 1.15.2
+     */
+    public Parser reuse(boolean reuse) {
+        this.reuse = reuse;
+        return this;
+    }
+
+    /**
+     Check if this parser reuses its working buffers between parses.
+     @return true if buffers are reused
+     @see #reuse(boolean)
+     @since 1.15.2
+     */
+    public boolean reuse() {
+        return reuse;
+    }
+
+    /**
+     Set a pool of strings to take tag names, attribute names, and short attribute values from, so that equal strings
+     are shared between the documents this parser creates, rather than each having its own copies. This reduces the
+     memory used to retain many parsed documents.
+     <p>E.g. {@code Parser.htmlParser().stringPool(StringPool.shared())}.</p>
+     @param stringPool the pool to use, or {@code null} (the default) to not pool strings
+     @return this, for chaining
+     @since 1.15.2
+     */
+    public Parser stringPool(@Nullable StringPool stringPool) {
+        this.stringPool = stringPool;
+        return this;
+    }
+
+    /**
+     Get the string pool used by this parser, if set.
+     @return the string pool, or {@code null} if strings are not pooled
+     @see #stringPool(StringPool)
+     @since 1.15.2
+     */
+    public @Nullable StringPool stringPool() {
+        return stringPool;
+    }
+
+    /**
+     Set whether to build a memory-lean DOM. When enabled, the child node list and attributes of each element are
+     trimmed to size as the element is completed, and the documents' elements don't keep a (weakly referenced) cache of
+     their child elements, other than elements with many children, which hold it. This reduces the memory used by
+     retained documents, at a small cost to parse and to child element lookup speed.
+     @param leanDom true to build a lean DOM; false (the default) to build a regular one
+     @return this, for chaining
+     @see Element#trimToSize()
+     @since 1.15.2
+     */
+    public Parser leanDom(boolean leanDom) {
+        this.leanDom = leanDom;
+        return this;
+    }
+
+    /**
+     Check if this parser builds a memory-lean DOM.
+     @return true if building a lean DOM
+     @see #leanDom(boolean)
+     @since 1.15.2
+     */
+    public boolean leanDom() {
+        return leanDom;
+    }
+
+    /**
+     Get the parser to set on a Document parsed by this parser. That is this parser, unless it is reusing its buffers,
+     in which case it's a copy that does not, so that the document doesn't hold onto or share them.
+     */
+    Parser documentParser() {
+        if (!reuse)
+            return this;
+        Parser copy = new Parser(this);
+        copy.reuse = false;
+        return copy;
+    }
+
     /**
      (An internal method, visible for Element. For HTML parse, signals that script and style text should be treated as
      Data Nodes).
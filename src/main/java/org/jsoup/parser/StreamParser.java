@@ -0,0 +1,230 @@
+package org.jsoup.parser;
+
+import org.jsoup.UncheckedIOException;
+import org.jsoup.helper.Validate;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.NodeVisitor;
+import org.jsoup.select.QueryParser;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ A StreamParser provides a progressive parse of its input. As each Element is completed (its end tag is closed), it is
+ emitted via an {@link Iterator}, or can be found with {@link #selectNext(String)}. Elements are emitted in close
+ order, so children before their parents, and the last element emitted is the root {@code html} element.
+ <p>The Element is connected to the (partial) Document, so it and its ancestors are available for selecting and
+ traversing. Elements after it (its next siblings, and subsequent content) have not yet been parsed.</p>
+ <p>To keep memory use bounded on large inputs, remove Elements from the DOM once you have finished with them, via
+ {@link Element#remove()} or {@link Iterator#remove()}. Only the elements that are still open, and any unremoved
+ content, are then retained. (Text and other non-element nodes between removed elements remain in place; remove
+ those too if they are not wanted.)</p>
+ <p>A StreamParser is not thread-safe, and its Parser must not be used for other parses (including fragment parses,
+ such as via {@link Element#html(String)}) until the stream is complete or closed.</p>
+ <p>Example:</p>
+ <pre>
+ try (StreamParser streamer = new StreamParser(Parser.htmlParser()).parse(reader, baseUri)) {
+     Element item;
+     while ((item = streamer.selectNext("li.result")) != null) {
+         handle(item.text());
+         item.remove(); // discard the completed subtree
+     }
+ }
+ </pre>
+ @since 1.15.2
+ */
+public class StreamParser implements Closeable {
+    private final Parser parser;
+    private final TreeBuilder treeBuilder;
+    private final ElementIterator it = new ElementIterator();
+    private @Nullable Document document;
+    private boolean stopped = false;
+
+    /**
+     Construct a new StreamParser, using the supplied base Parser.
+     @param parser the configured base parser
+     */
+    public StreamParser(Parser parser) {
+        Validate.notNull(parser);
+        this.parser = parser;
+        treeBuilder = parser.getTreeBuilder();
+    }
+
+    /**
+     Provide the input for a parse. The input is not read until a consuming operation is called.
+     @param input the input to be read.
+     @param baseUri the URL of this input, for absolute link resolution
+     @return this parser, for chaining
+     */
+    public StreamParser parse(Reader input, String baseUri) {
+        close(); // a no-op unless a previous parse was not completed
+        it.reset();
+        stopped = false;
+        treeBuilder.nodeListener(it);
+        treeBuilder.initialiseParse(input, baseUri, parser); // reader is not read, so no chance of IO error
+        document = treeBuilder.doc;
+        return this;
+    }
+
+    /**
+     Provide the input for a parse.
+     @param input the input to be read
+     @param baseUri the URL of this input, for absolute link resolution
+     @return this parser
+     */
+    public StreamParser parse(String input, String baseUri) {
+        return parse(new StringReader(input), baseUri);
+    }
+
+    /**
+     Get an Iterator of Elements, emitted as each is completed. The input is parsed as the iterator is advanced.
+     <p>If an IO exception occurs reading the input, it will be thrown as an (unchecked) {@link UncheckedIOException}.</p>
+     @return an Element iterator
+     */
+    public Iterator<Element> iterator() {
+        return it;
+    }
+
+    /**
+     Flags that the parse should be stopped; the iterator will not return any more items.
+     @return this parser
+     */
+    public StreamParser stop() {
+        stopped = true;
+        return this;
+    }
+
+    /**
+     Closes the input and releases resources. (The parse will also be closed when the input is fully read.)
+     */
+    @Override public void close() {
+        treeBuilder.completeParse(); // closes the reader
+        treeBuilder.nodeListener(null); // so the parser can be reused normally
+    }
+
+    /**
+     Get the current Document as it is being parsed. It will be only partially complete until the input is fully
+     read. Structural changes (e.g. insert, remove) may be made to the Document contents.
+     @return the (partial) Document
+     */
+    public Document document() {
+        Validate.notNull(document, "Must run parse() before calling.");
+        return document;
+    }
+
+    /**
+     Runs the parser until the input is fully read, and returns the completed Document. No further elements will be
+     emitted by the iterator.
+     @return the completed Document
+     @throws IOException if an I/O error occurs
+     */
+    public Document complete() throws IOException {
+        Document doc = document();
+        stop(); // no more elements are emitted
+        try {
+            //noinspection StatementWithEmptyBody
+            while (treeBuilder.stepParser()) {}
+        } catch (UncheckedIOException e) {
+            throw e.ioException();
+        } finally {
+            close();
+        }
+        return doc;
+    }
+
+    /**
+     Finds the next Element that matches the query, progressively parsing the input as required. Only Elements that
+     are completed from this point on are considered.
+     <p>Note that evaluators that look at following siblings (e.g. {@code :last-child}) may match elements that later
+     gain siblings, as those siblings are not yet parsed.</p>
+     @param query the {@link org.jsoup.select.Selector} query.
+     @return the next matching Element, or {@code null} if none are found before the input ends.
+     @throws IOException if an I/O error occurs
+     */
+    public @Nullable Element selectNext(String query) throws IOException {
+        return selectNext(QueryParser.parse(query));
+    }
+
+    /**
+     Finds the next Element that matches the evaluator, progressively parsing the input as required.
+     @param eval the {@link Evaluator} to test with
+     @return the next matching Element, or {@code null} if none are found before the input ends.
+     @throws IOException if an I/O error occurs
+     @see #selectNext(String)
+     */
+    public @Nullable Element selectNext(Evaluator eval) throws IOException {
+        final Document doc = document();
+        try {
+            while (it.hasNext()) {
+                Element el = it.next();
+                if (eval.matches(doc, el))
+                    return el;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.ioException();
+        }
+        return null;
+    }
+
+    final class ElementIterator implements Iterator<Element>, NodeVisitor {
+        // a single parser step may close several elements (e.g. an end tag that implies others), so queue them up
+        private final ArrayDeque<Element> emitQueue = new ArrayDeque<>();
+        private @Nullable Element current; // most recently emitted
+        private @Nullable Element next; // element waiting to be picked up
+
+        void reset() {
+            emitQueue.clear();
+            current = next = null;
+        }
+
+        @Override public boolean hasNext() {
+            maybeFindNext();
+            return next != null;
+        }
+
+        @Override public Element next() {
+            maybeFindNext();
+            if (next == null) throw new NoSuchElementException();
+            current = next;
+            next = null;
+            return current;
+        }
+
+        private void maybeFindNext() {
+            if (stopped || next != null) return;
+
+            // drain the queue before stepping the parser for more
+            while (emitQueue.isEmpty()) {
+                if (!treeBuilder.stepParser()) {
+                    stop();
+                    close();
+                    return;
+                }
+            }
+            next = emitQueue.remove();
+        }
+
+        @Override public void remove() {
+            if (current == null) throw new NoSuchElementException();
+            current.remove();
+        }
+
+        @Override public void head(Node node, int depth) {
+            // not called; the tree builder only signals closes
+        }
+
+        @Override public void tail(Node node, int depth) {
+            if (!stopped && node instanceof Element && !(node instanceof Document))
+                emitQueue.add((Element) node);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.jsoup.parser;
+
+import org.jsoup.helper.Validate;
+
+/**
+ A bounded, thread-safe pool of strings. When set on a {@link Parser#stringPool(StringPool) Parser}, the tag names,
+ attribute names, and short attribute values of the documents it parses are taken from the pool, so that equal strings
+ (like {@code class}, {@code href}, and {@code nofollow}) are shared between those documents, rather than each holding
+ its own copies. That reduces the memory used when many parsed documents are retained.
+ <p>The pool has a fixed number of slots, indexed by the string's hash; a new string replaces any other in its slot.
+ So the pool doesn't grow, and frequently used strings tend to stay pooled. Only strings up to the maximum length are
+ pooled.</p>
+ <p>A pool may be shared by parsers on different threads; {@link #shared()} is a pool for that use.</p>
+
+ @since 1.15.2
+ */
+public final class StringPool {
+    /** The number of slots in the {@link #shared()} pool. */
+    public static final int DefaultCapacity = 4096;
+    /** The maximum length of a string pooled by the {@link #shared()} pool. */
+    public static final int DefaultMaxLength = 32;
+    private static final int MaxCapacity = 1 << 24;
+
+    private static final StringPool shared = new StringPool(DefaultCapacity, DefaultMaxLength);
+
+    // read and written without locks. That's safe as a String is immutable (its content is published via a final
+    // field); a racing thread may just miss a string that another has pooled.
+    private final String[] strings;
+    private final int maxLength;
+
+    /**
+     Create a new pool.
+     @param capacity the number of slots in the pool (rounded up to a power of two)
+     @param maxLength the maximum length of a string to pool; longer strings are used as is
+     */
+    public StringPool(int capacity, int maxLength) {
+        Validate.isTrue(capacity > 0 && capacity <= MaxCapacity, "capacity must be between 1 and " + MaxCapacity);
+        Validate.isTrue(maxLength >= 0, "maxLength must be 0 or greater");
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity)
+            size <<= 1;
+        strings = new String[size];
+        this.maxLength = maxLength;
+    }
+
+    /**
+     Get a pool for sharing between parsers, with {@value #DefaultCapacity} slots, and pooling strings up to
+     {@value #DefaultMaxLength} characters long.
+     @return the shared pool
+     */
+    public static StringPool shared() {
+        return shared;
+    }
+
+    /**
+     Get the pooled string equal to the given string, or pool the given string if there is none.
+     @param string the string to look up
+     @return an equal string from the pool, or the given string
+     */
+    public String get(String string) {
+        if (string.length() > maxLength)
+            return string;
+        final int hash = string.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & (strings.length - 1);
+        final String pooled = strings[index];
+        if (string.equals(pooled))
+            return pooled;
+        strings[index] = string;
+        return string;
+    }
+
+    /**
+     Get the maximum length of a string that this pool will hold.
+     @return the maximum length
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+
+    /**
+     Get the number of slots in this pool.
+     @return the capacity
+     */
+    public int capacity() {
+        return strings.length;
+    }
+}
@@ -0,0 +1,420 @@
+package org.jsoup.parser;
+
+import org.jsoup.UncheckedIOException;
+import org.jsoup.helper.Validate;
+import org.jsoup.internal.StringUtil;
+import org.jsoup.nodes.Attributes;
+import org.jsoup.select.TagQuery;
+
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ A TagScanner matches CSS queries against the start tags of HTML as it is tokenised, and calls a handler with the tag
+ name and attributes of each match. No tree is built and no Elements are created, so for jobs that only need some tags'
+ attributes (e.g. the {@code a[href]} links, or the {@code meta[property^=og:]} values of a page), a scan is quicker,
+ and allocates much less, than a full parse and select.
+ <p>Queries are {@link TagQuery TagQueries}: the tag, id, class, and attribute selectors, and the descendant and child
+ combinators. Ancestors are tracked with a stack of the open elements in the input, closed by their end tags and by
+ the common implied ends (e.g. a {@code <li>} closing an open {@code li}).</p>
+ <p>The matches are a best-effort approximation of a select on the parsed Document, for all queries. The scanner
+ follows the tree builder where it most often drops or renames start tags: tags other than {@code option} within a
+ {@code select}, tags other than {@code link}, {@code meta}, and {@code style} within a {@code noscript} in the head
+ (which are kept as text), table tags outside of a table, and {@code image} (which is an {@code img}). But it does not
+ implement all of the tree builder's rules. For example, a repeated {@code html} or {@code body} tag (whose attributes
+ the tree builder merges into the first) is matched again, and elements that the tree builder inserts or moves (such
+ as an implied {@code html} or {@code body}, or content fostered out of a table) are not in the ancestors, so queries
+ with combinators are more likely to differ.</p>
+ <p>A TagScanner may be reused for several scans, but is not thread-safe.</p>
+ <p>Example:</p>
+ <pre>
+ List&lt;String&gt; links = new ArrayList&lt;&gt;();
+ new TagScanner()
+     .on("a[href]", (name, attributes) -&gt; links.add(attributes.get("href")))
+     .scan(html);
+ </pre>
+ @since 1.15.2
+ */
+public class TagScanner {
+    /** Receives the start tags that match a query. */
+    public interface Handler {
+        /**
+         Called for each start tag that matches the query.
+         @param normalName the normal (lower case) tag name
+         @param attributes the tag's attributes, with normalized (lower case) keys. The attributes are not reused by
+         the scanner, so may be retained.
+         */
+        void handle(String normalName, Attributes attributes);
+    }
+
+    private final List<TagQuery> queries = new ArrayList<>();
+    private final List<Handler> handlers = new ArrayList<>();
+    private final OpenElements open = new OpenElements();
+    private boolean stopped = false;
+    // the tree builder's modes that change how start tags are treated
+    private boolean inHead = false; // before the body's content starts
+    private boolean headNoscript = false; // in a noscript in the head
+    private boolean rawText = false; // in the content of e.g. a script or title
+
+    /**
+     Adds a query, and the handler to call with the start tags that match it.
+     @param query the {@link TagQuery} CSS query
+     @param handler the handler for matching tags
+     @return this scanner, for chaining
+     @throws org.jsoup.select.Selector.SelectorParseException if the query can't be matched against a start tag
+     */
+    public TagScanner on(String query, Handler handler) {
+        return on(TagQuery.compile(query), handler);
+    }
+
+    /**
+     Adds a compiled query, and the handler to call with the start tags that match it.
+     @param query the compiled query
+     @param handler the handler for matching tags
+     @return this scanner, for chaining
+     */
+    public TagScanner on(TagQuery query, Handler handler) {
+        Validate.notNull(query);
+        Validate.notNull(handler);
+        queries.add(query);
+        handlers.add(handler);
+        return this;
+    }
+
+    /**
+     Stops the current scan, so that no more tags are read. May be called from a handler, e.g. once it has found what
+     it needs.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     Scans the HTML input, calling the handlers with the start tags that match their queries, in input order. The
+     input is closed when the scan completes.
+     @param input the HTML input
+     @throws IOException if an I/O error occurs reading the input
+     */
+    public void scan(Reader input) throws IOException {
+        Validate.notNull(input);
+        if (!input.markSupported())
+            input = new BufferedReader(input);
+        CharacterReader reader = new CharacterReader(input);
+        try {
+            scan(reader);
+        } catch (UncheckedIOException e) {
+            throw e.ioException();
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     Scans the HTML input, calling the handlers with the start tags that match their queries, in input order.
+     @param html the HTML input
+     */
+    public void scan(String html) {
+        Validate.notNull(html);
+        CharacterReader reader = new CharacterReader(new StringReader(html), html.length());
+        try {
+            scan(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private void scan(CharacterReader reader) {
+        Tokeniser tokeniser = new Tokeniser(reader, ParseErrorList.noTracking());
+        stopped = false;
+        inHead = true;
+        headNoscript = false;
+        rawText = false;
+        open.clear();
+
+        while (!stopped) {
+            Token token = tokeniser.read();
+            switch (token.type) {
+                case StartTag:
+                    startTag(tokeniser, token.asStartTag());
+                    break;
+                case EndTag:
+                    endTag(token.asEndTag().normalName());
+                    break;
+                case Character:
+                    if (inHead && !headNoscript && !rawText && !StringUtil.isBlank(token.asCharacter().getData()))
+                        inHead = false; // text starts the body; but in a head noscript, it's kept as text
+                    break;
+                case EOF:
+                    stopped = true;
+                    break;
+            }
+            token.reset();
+        }
+        open.clear();
+    }
+
+    private void startTag(Tokeniser tokeniser, Token.StartTag start) {
+        String name = start.normalName();
+        if (inHead && !headNoscript && !StringUtil.inSorted(name, HeadTags))
+            inHead = false;
+
+        // tags that the tree builder ignores, keeps as text, or renames
+        if (headNoscript) {
+            if (!StringUtil.inSorted(name, HeadNoscriptTags))
+                return; // the tree builder keeps other tags as the noscript's text
+        } else if (open.selects > 0) {
+            if (!selectStartTag(name))
+                return;
+        } else if (open.tables == 0 && !inHead && StringUtil.inSorted(name, TableTags)) {
+            return; // ignored outside of a table
+        } else if (name.equals("image") && open.foreign == 0) {
+            name = "img";
+        }
+
+        Attributes attributes = start.attributes;
+        if (attributes != null) { // as HtmlTreeBuilder.insert
+            attributes.deduplicate(ParseSettings.htmlDefault);
+            ParseSettings.htmlDefault.normalizeAttributes(attributes);
+        }
+
+        closeImplied(name);
+        for (int i = 0; i < queries.size(); i++) {
+            if (queries.get(i).matches(name, attributes, open)) {
+                if (attributes == null)
+                    start.attributes = attributes = new Attributes(); // so any later handler gets the same
+                handlers.get(i).handle(name, attributes);
+            }
+        }
+
+        if (start.isSelfClosing()) {
+            tokeniser.transition(TokeniserState.Data); // as HtmlTreeBuilder.insert; empty, so not pushed
+        } else if (!isVoid(name)) {
+            open.push(name, attributes);
+            rawText = contentState(tokeniser, name);
+            if (inHead && name.equals("noscript"))
+                headNoscript = true;
+        }
+    }
+
+    /**
+     Handles a start tag in a select, as the tree builder does.
+     @return true if the tag is then inserted; false if it's ignored
+     */
+    private boolean selectStartTag(String name) {
+        switch (name) {
+            case "option":
+            case "optgroup":
+            case "script":
+            case "template":
+                return true; // option and optgroup close an open option in closeImplied
+            case "select":
+                open.popTo("select"); // a select start tag acts as the select's end
+                return false;
+            case "input":
+            case "keygen":
+            case "textarea":
+                open.popTo("select");
+                return true;
+            default:
+                if (open.tables > 0 && StringUtil.inSorted(name, SelectInTableEnds)) {
+                    open.popTo("select");
+                    return true;
+                }
+                return false;
+        }
+    }
+
+    private void endTag(String name) {
+        rawText = false; // the tokeniser only emits the end tag of a raw text element
+        if (headNoscript) {
+            if (name.equals("noscript")) {
+                open.popTo("noscript");
+                headNoscript = false;
+            } else if (open.isCurrent(name)) {
+                open.pop(); // a style or noframes
+            }
+        } else if (open.selects > 0 && !name.equals("select")) {
+            if (open.isCurrent(name))
+                open.pop(); // an option, optgroup, or script; the tree builder ignores other end tags here
+        } else {
+            if (name.equals("head"))
+                inHead = false;
+            open.popTo(name);
+        }
+    }
+
+    private static boolean isVoid(String name) {
+        return Tag.isKnownTag(name) && Tag.valueOf(name).isEmpty();
+    }
+
+    /**
+     Switches the tokeniser to read the content of a raw text element, as the tree builder does.
+     @return true if the element has raw text content
+     */
+    private static boolean contentState(Tokeniser tokeniser, String name) {
+        switch (name) {
+            case "title":
+            case "textarea":
+                tokeniser.transition(TokeniserState.Rcdata);
+                break;
+            case "iframe":
+            case "noembed":
+            case "noframes":
+            case "style":
+            case "xmp":
+                tokeniser.transition(TokeniserState.Rawtext);
+                break;
+            case "script":
+                tokeniser.transition(TokeniserState.ScriptData);
+                break;
+            case "plaintext":
+                tokeniser.transition(TokeniserState.PLAINTEXT);
+                break;
+            default:
+                return false;
+        }
+        return true;
+    }
+
+    // the start tags that the tree builder handles in the head; others start the body
+    private static final String[] HeadTags = {"base", "basefont", "bgsound", "command", "head", "html", "link", "meta",
+        "noframes", "noscript", "script", "style", "template", "title"};
+    // the start tags that are inserted in a noscript in the head (as scripting is off)
+    private static final String[] HeadNoscriptTags = {"basefont", "bgsound", "link", "meta", "noframes", "style"};
+    // the start tags that are only inserted within a table
+    private static final String[] TableTags = {"caption", "col", "colgroup", "frame", "head", "tbody", "td", "tfoot",
+        "th", "thead", "tr"};
+    // the start tags that close a select within a table
+    private static final String[] SelectInTableEnds = {"caption", "table", "tbody", "td", "tfoot", "th", "thead", "tr"};
+
+    // the element names within which an implied close does not reach
+    private static final String[] ScopeBoundaries = {"applet", "button", "caption", "html", "marquee", "object", "table",
+        "td", "template", "th"};
+    private static final String[] ListBoundaries = {"ol", "ul"};
+    private static final String[] DefinitionBoundaries = {"dl"};
+    private static final String[] RowBoundaries = {"table", "tbody", "tfoot", "thead"};
+    private static final String[] CellBoundaries = {"table", "tr"};
+    private static final String[] PClosers = {"address", "article", "aside", "blockquote", "center", "dd", "details", "dir",
+        "div", "dl", "dt", "fieldset", "figcaption", "figure", "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6", "header",
+        "hgroup", "hr", "li", "listing", "menu", "nav", "ol", "p", "pre", "section", "summary", "table", "ul", "xmp"};
+
+    /** Closes the open elements that the start tag implies the end of, e.g. an open {@code p} before a {@code div}. */
+    private void closeImplied(String name) {
+        if (StringUtil.inSorted(name, PClosers))
+            open.closeNearest("p", null, ScopeBoundaries);
+        switch (name) {
+            case "li":
+                open.closeNearest("li", null, ListBoundaries);
+                break;
+            case "dd":
+            case "dt":
+                open.closeNearest("dd", "dt", DefinitionBoundaries);
+                break;
+            case "option":
+            case "optgroup":
+                if (open.isCurrent("option"))
+                    open.pop();
+                break;
+            case "tr":
+                open.closeNearest("tr", null, RowBoundaries);
+                break;
+            case "td":
+            case "th":
+                open.closeNearest("td", "th", CellBoundaries);
+                break;
+        }
+    }
+
+    /** The stack of open elements, presented to queries as the ancestors of the current tag. */
+    private static final class OpenElements implements TagQuery.Ancestors {
+        String[] names = new String[32];
+        @Nullable Attributes[] attributes = new Attributes[32];
+        int size = 0;
+        int selects = 0, tables = 0, foreign = 0; // the number of open select, table, and svg or math elements
+
+        void push(String name, @Nullable Attributes attrs) {
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+                attributes = Arrays.copyOf(attributes, size * 2);
+            }
+            names[size] = name;
+            attributes[size] = attrs;
+            size++;
+            count(name, 1);
+        }
+
+        void pop() {
+            size--;
+            count(names[size], -1);
+            names[size] = null;
+            attributes[size] = null;
+        }
+
+        private void count(String name, int delta) {
+            switch (name) {
+                case "select":
+                    selects += delta;
+                    break;
+                case "table":
+                    tables += delta;
+                    break;
+                case "svg":
+                case "math":
+                    foreign += delta;
+                    break;
+            }
+        }
+
+        boolean isCurrent(String name) {
+            return size > 0 && names[size - 1].equals(name);
+        }
+
+        /** Pops up to and including the nearest open element with the name, if there is one. */
+        void popTo(String name) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (names[i].equals(name)) {
+                    while (size > i)
+                        pop();
+                    return;
+                }
+            }
+        }
+
+        /** Pops up to and including the nearest element named either name, unless a boundary element is nearer. */
+        void closeNearest(String name, @Nullable String altName, String[] boundaries) {
+            for (int i = size - 1; i >= 0; i--) {
+                String open = names[i];
+                if (open.equals(name) || open.equals(altName)) {
+                    while (size > i)
+                        pop();
+                    return;
+                }
+                if (StringUtil.inSorted(open, boundaries) || StringUtil.inSorted(open, ScopeBoundaries))
+                    return;
+            }
+        }
+
+        void clear() {
+            while (size > 0)
+                pop();
+        }
+
+        @Override public int size() {
+            return size;
+        }
+
+        @Override public String normalName(int index) {
+            return names[size - 1 - index];
+        }
+
+        @Override public @Nullable Attributes attributes(int index) {
+            return attributes[size - 1 - index];
+        }
+    }
+}
@@ -94,6 +94,7 @@ abstract class Token {
 
         boolean selfClosing = false;
         @Nullable Attributes attributes; // start tags get attributes on construction. End tags get attributes on first new attribute (but only for parser convenience, not used).
+        @Nullable StringPool stringPool; // if set, attribute names and values are taken from it. Retained over reset.
 
         @Override
         Tag reset() {
@@ -132,6 +133,11 @@ abstract class Token {
                         value = "";
                     else
                         value = null;
+                    if (stringPool != null) {
+                        name = stringPool.get(name);
+                        if (value != null)
+                            value = stringPool.get(value);
+                    }
                     // note that we add, not put. So that the first is kept, and rest are deduped, once in a context where case sensitivity is known (the appropriate tree builder).
                     attributes.add(name, value);
                 }
@@ -31,7 +31,7 @@ final class Tokeniser {
     }
 
     private final CharacterReader reader; // html input
-    private final ParseErrorList errors; // errors found while tokenising
+    private ParseErrorList errors; // errors found while tokenising
 
     private TokeniserState state = TokeniserState.Data; // current tokenisation state
     private Token emitPending; // the token we are about to emit on next read
@@ -54,6 +54,37 @@ final class Tokeniser {
         this.errors = errors;
     }
 
+    /**
+     Sets the pool that tag attribute names and values are taken from.
+     @param stringPool the pool, or null to not pool strings
+     */
+    void stringPool(@Nullable StringPool stringPool) {
+        startPending.stringPool = stringPool;
+        endPending.stringPool = stringPool;
+    }
+
+    /**
+     Resets this tokeniser to the start of a new parse of its (already reset) reader, keeping its buffers.
+     @param errors the error list to use for the new parse
+     */
+    void reset(ParseErrorList errors) {
+        this.errors = errors;
+        state = TokeniserState.Data;
+        emitPending = null;
+        isEmitPending = false;
+        charsString = null;
+        charsBuilder.setLength(0);
+        dataBuffer.setLength(0);
+        tagPending = null;
+        startPending.reset();
+        endPending.reset();
+        charPending.reset();
+        doctypePending.reset();
+        commentPending.reset();
+        lastStartTag = null;
+        lastStartCloseSeq = null;
+    }
+
     Token read() {
         while (!isEmitPending) {
             state.read(this, reader);
@@ -200,15 +231,19 @@ final class Tokeniser {
             return codeRef;
         } else { // named
             // get as many letters as possible, and look for matching entities.
-            String nameRef = reader.consumeLetterThenDigitSequence();
+            int entity = reader.consumeEntityName();
             boolean looksLegit = reader.matches(';');
             // found if a base named entity without a ;, or an extended entity with the ;.
-            boolean found = (Entities.isBaseNamedEntity(nameRef) || (Entities.isNamedEntity(nameRef) && looksLegit));
+            boolean found = (Entities.NameTrie.isBase(entity) || (Entities.NameTrie.isNamed(entity) && looksLegit));
 
             if (!found) {
                 reader.rewindToMark();
-                if (looksLegit) // named with semicolon
+                if (looksLegit && errors.canAddError()) { // named with semicolon; re-read the name for the error
+                    reader.mark();
+                    String nameRef = reader.consumeLetterThenDigitSequence();
+                    reader.rewindToMark();
                     characterReferenceError("invalid named reference [%s]", nameRef);
+                }
                 return null;
             }
             if (inAttribute && (reader.matchesLetter() || reader.matchesDigit() || reader.matchesAny('=', '-', '_'))) {
@@ -219,15 +254,15 @@ final class Tokeniser {
 
             reader.unmark();
             if (!reader.matchConsume(";"))
-                characterReferenceError("missing semicolon on [&%s]", nameRef); // missing semi
-            int numChars = Entities.codepointsForName(nameRef, multipointHolder);
+                characterReferenceError("missing semicolon on [&%s]", Entities.NameTrie.name(entity)); // missing semi
+            int numChars = Entities.NameTrie.codepoints(entity, multipointHolder);
             if (numChars == 1) {
                 codeRef[0] = multipointHolder[0];
                 return codeRef;
             } else if (numChars ==2) {
                 return multipointHolder;
             } else {
-                Validate.fail("Unexpected characters returned for " + nameRef);
+                Validate.fail("Unexpected characters returned for " + Entities.NameTrie.name(entity));
                 return multipointHolder;
             }
         }
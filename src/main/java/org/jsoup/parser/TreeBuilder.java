@@ -5,6 +5,8 @@ import org.jsoup.nodes.Attributes;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.NodeVisitor;
 
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -24,9 +26,21 @@ abstract class TreeBuilder {
     protected Document doc; // current doc we are building into
     protected ArrayList<Element> stack; // the stack of open elements
     protected String baseUri; // current base uri, for creating new elements
-    protected Token currentToken; // currentToken is used only for error tracking.
+    protected Token currentToken; // currentToken is used for error tracking, and to detect the EOF when stepping.
     protected ParseSettings settings;
     protected Map<String, Tag> seenTags; // tags we've used in this parse; saves tag GC for custom tags.
+    private @Nullable NodeVisitor nodeListener; // optional listener for element closes (via tail)
+    private @Nullable Evaluator stopAfter; // optional early-exit condition, tested as each element closes
+    private int maxElements; // optional early-exit after this many elements are closed; 0 for no limit
+    private int closedElements; // count of elements closed, for maxElements
+    private boolean stopped; // set when an early-exit condition is met
+
+    // when the parser reuses its buffers, the reader, tokeniser, and collections of the last completed parse, to reset
+    // and use again in the next
+    private @Nullable CharacterReader spareReader;
+    private @Nullable Tokeniser spareTokeniser;
+    private @Nullable ArrayList<Element> spareStack;
+    private @Nullable Map<String, Tag> spareSeenTags;
 
     private Token.StartTag start = new Token.StartTag(); // start tag to process
     private Token.EndTag end  = new Token.EndTag();
@@ -39,31 +53,69 @@ abstract class TreeBuilder {
         Validate.notNull(parser);
 
         doc = new Document(baseUri);
-        doc.parser(parser);
+        doc.parser(parser.documentParser());
         this.parser = parser;
         settings = parser.settings();
-        reader = new CharacterReader(input);
-        reader.trackNewlines(parser.isTrackErrors()); // when tracking errors, enable newline tracking for better error reports
         currentToken = null;
-        tokeniser = new Tokeniser(reader, parser.getErrors());
-        stack = new ArrayList<>(32);
-        seenTags = new HashMap<>();
+        if (parser.reuse() && spareReader != null) {
+            reader = spareReader;
+            reader.reset(input);
+            tokeniser = spareTokeniser;
+            tokeniser.reset(parser.getErrors());
+            seenTags = spareSeenTags;
+            spareReader = null;
+            spareTokeniser = null;
+            spareSeenTags = null;
+            stack = spareStack != null ? spareStack : new ArrayList<>(32);
+            spareStack = null;
+        } else {
+            reader = new CharacterReader(input);
+            tokeniser = new Tokeniser(reader, parser.getErrors());
+            stack = new ArrayList<>(32);
+            seenTags = new HashMap<>();
+        }
+        reader.trackNewlines(parser.isTrackErrors()); // when tracking errors, enable newline tracking for better error reports
+        tokeniser.stringPool(parser.stringPool());
         this.baseUri = baseUri;
+        stopAfter = null; // only set for a document parse, not fragments or streams
+        maxElements = 0;
+        closedElements = 0;
+        stopped = false;
     }
 
     @ParametersAreNonnullByDefault
     Document parse(Reader input, String baseUri, Parser parser) {
         initialiseParse(input, baseUri, parser);
+        stopAfter = parser.stopAfter();
+        maxElements = parser.maxElements();
         runParser();
+        completeParse();
+        return doc;
+    }
 
+    /**
+     Tidy up after a parse, closing the input reader. Safe to call more than once.
+     */
+    void completeParse() {
         // tidy up - as the Parser and Treebuilder are retained in document for settings / fragments
-        reader.close();
+        if (reader == null) return;
+        if (parser.reuse()) {
+            reader.closeInput(); // keeps the buffers
+            seenTags.clear();
+            spareReader = reader;
+            spareTokeniser = tokeniser;
+            spareSeenTags = seenTags;
+            if (stack != null) { // stopped early; else already kept when the parse completed
+                stack.clear();
+                spareStack = stack;
+            }
+        } else {
+            reader.close();
+        }
         reader = null;
         tokeniser = null;
         stack = null;
         seenTags = null;
-
-        return doc;
     }
 
     /**
@@ -75,17 +127,43 @@ abstract class TreeBuilder {
     abstract List<Node> parseFragment(String inputFragment, Element context, String baseUri, Parser parser);
 
     protected void runParser() {
-        final Tokeniser tokeniser = this.tokeniser;
-        final Token.TokenType eof = Token.TokenType.EOF;
+        //noinspection StatementWithEmptyBody
+        while (stepParser()) {} // run until the input and the stack of open elements are exhausted
+    }
+
+    /**
+     Process the next token from the input. Once the EOF token has been processed, each further step pops one open
+     element off the stack (and then closes the document), so that a node listener sees every element close.
+     @return true if a step was taken; false once the parse is complete (or has been stopped early).
+     */
+    boolean stepParser() {
+        if (stack == null || stopped) return false; // already complete
+
+        if (currentToken != null && currentToken.type == Token.TokenType.EOF) {
+            if (stack.isEmpty()) {
+                onNodeClosed(doc); // the html doc is not on the stack, so let this final step close it
+                stackComplete();
+            } else if (pop() == doc) { // the xml doc is the bottom of its stack
+                stackComplete();
+            }
+            return true;
+        }
 
-        while (true) {
-            Token token = tokeniser.read();
-            process(token);
-            token.reset();
+        final Token token = tokeniser.read();
+        currentToken = token;
+        process(token);
+        if (token.type == Token.TokenType.EOF)
+            currentToken = token; // processing may have stepped through implied tokens; stay on EOF
+        token.reset();
+        return true;
+    }
 
-            if (token.type == eof)
-                break;
+    private void stackComplete() {
+        if (parser.reuse()) {
+            stack.clear();
+            spareStack = stack;
         }
+        stack = null; // marks the parse as complete
     }
 
     protected abstract boolean process(Token token);
@@ -116,6 +194,43 @@ abstract class TreeBuilder {
     }
 
 
+    /**
+     Removes the last element from the stack of open elements, and signals that it has been closed.
+     @return the element that was popped
+     */
+    final Element pop() {
+        int size = stack.size();
+        Element removed = stack.remove(size - 1);
+        onNodeClosed(removed);
+        return removed;
+    }
+
+    /**
+     Set an (optional) listener that is notified via {@link NodeVisitor#tail} as each element is closed, and finally
+     the document. The depth supplied is the size of the stack of open elements. Used by the {@link StreamParser}.
+     @param nodeListener the listener, or null to clear
+     */
+    void nodeListener(@Nullable NodeVisitor nodeListener) {
+        this.nodeListener = nodeListener;
+    }
+
+    /** Signal that a node has been closed: that it has been popped off the stack, or will never be pushed. */
+    void onNodeClosed(Node node) {
+        if (parser.leanDom() && node instanceof Element)
+            ((Element) node).trimToSize(); // its children are complete, so release the spare capacity
+
+        if (nodeListener != null)
+            nodeListener.tail(node, stack.size());
+
+        // early exit conditions; the parse stops after the current token is processed
+        if ((stopAfter != null || maxElements > 0) && node instanceof Element && node != doc) {
+            closedElements++;
+            if ((maxElements > 0 && closedElements >= maxElements)
+                || (stopAfter != null && stopAfter.matches(doc, (Element) node)))
+                stopped = true;
+        }
+    }
+
     /**
      Get the current element (last on the stack). If all items have been removed, returns the document instead
      (which might not actually be on the stack; use stack.size() == 0 to test if required.
@@ -168,7 +283,8 @@ abstract class TreeBuilder {
     protected Tag tagFor(String tagName, ParseSettings settings) {
         Tag tag = seenTags.get(tagName); // note that we don't normalize the cache key. But tag via valueOf may be normalized.
         if (tag == null) {
-            tag = Tag.valueOf(tagName, settings);
+            StringPool stringPool = parser.stringPool();
+            tag = Tag.valueOf(stringPool != null ? stringPool.get(tagName) : tagName, settings); // pooled for custom tags
             seenTags.put(tagName, tag);
         }
         return tag;
@@ -93,6 +93,7 @@ public class XmlTreeBuilder extends TreeBuilder {
         if (startTag.isSelfClosing()) {
             if (!tag.isKnownTag()) // unknown tag, remember this is self closing for output. see above.
                 tag.setSelfClosing();
+            onNodeClosed(el); // not pushed to the stack, so is closed as soon as it is inserted
         } else {
             stack.add(el);
         }
@@ -150,6 +151,7 @@ public class XmlTreeBuilder extends TreeBuilder {
         for (int pos = stack.size() -1; pos >= 0; pos--) {
             Element next = stack.get(pos);
             stack.remove(pos);
+            onNodeClosed(next);
             if (next == firstFound)
                 break;
         }
@@ -161,6 +163,7 @@ public class XmlTreeBuilder extends TreeBuilder {
     List<Node> parseFragment(String inputFragment, String baseUri, Parser parser) {
         initialiseParse(new StringReader(inputFragment), baseUri, parser);
         runParser();
+        completeParse();
         return doc.childNodes();
     }
 
@@ -0,0 +1,262 @@
+package org.jsoup.select;
+
+import org.jsoup.internal.AttributeMatch;
+import org.jsoup.internal.StringUtil;
+import org.jsoup.nodes.Attributes;
+import org.jsoup.nodes.Element;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ A counting Bloom filter of the tag names, ids, and class names of the ancestors of the element being visited in a
+ traversal. Used to reject the candidates of a query with descendant or child combinators (e.g. {@code div.content
+ a[href]}) without walking up their ancestors: if a tag, id, or class that the query requires of some ancestor is not
+ in the filter, no ancestor has it, and the candidate can't match.
+ <p>As with a browser's style matching, the filter only rejects; a candidate that may match is then tested by the
+ evaluator. Ancestors are pushed as the traversal descends into them, and popped as it leaves them, so the filter
+ holds the ancestors between the select root (inclusive) and the candidate, which are the ancestors that the
+ structural evaluators test.</p>
+ <p>A filter holds the state of one traversal, so is not thread-safe.</p>
+ */
+final class AncestorFilter {
+    private static final int Size = 256; // counters; a power of two
+    private static final int Mask = Size - 1;
+    private static final int TagSeed = 0x3c6ef372;
+    private static final int IdSeed = 0x6a09e667;
+    private static final int ClassSeed = 0x510e527f;
+
+    // for each query, the hashes that each of its alternatives (clauses of an Or) requires of the ancestors; null if
+    // the query has no requirement
+    private final int[][][] required;
+    private final boolean tags, ids, classes; // which keys are required, so which are pushed
+    private final int[] counts = new int[Size];
+    private int[] pushed = new int[64]; // the hashes added for each pushed element
+    private int size = 0;
+    private int[] marks = new int[32]; // for each pushed element, the size of pushed before it
+    private int depth = 0;
+
+    private AncestorFilter(int[][][] required) {
+        this.required = required;
+        boolean tags = false, ids = false, classes = false;
+        for (int[][] alternatives : required) {
+            if (alternatives == null) continue;
+            for (int[] hashes : alternatives) {
+                for (int hash : hashes) {
+                    int type = hash & TypeMask;
+                    if (type == TagType) tags = true;
+                    else if (type == IdType) ids = true;
+                    else if (type == ClassType) classes = true;
+                }
+            }
+        }
+        this.tags = tags;
+        this.ids = ids;
+        this.classes = classes;
+    }
+
+    /**
+     Creates a filter for the evaluator, if every element it matches requires some tag, id, or class of its ancestors.
+     @return the filter, or null if the evaluator has no such requirement (so a filter couldn't reject any element)
+     */
+    static @Nullable AncestorFilter forEvaluator(Evaluator eval) {
+        return forEvaluators(Collections.singletonList(eval));
+    }
+
+    /**
+     Creates a filter for several queries tested in one traversal, if any has a requirement of its ancestors. Test each
+     with {@link #mayMatch(int)}, by its index in the list.
+     @return the filter, or null if no evaluator has such a requirement
+     */
+    static @Nullable AncestorFilter forEvaluators(List<Evaluator> evals) {
+        int[][][] required = new int[evals.size()][][];
+        boolean any = false;
+        for (int i = 0; i < required.length; i++) {
+            required[i] = requirements(evals.get(i));
+            any |= required[i] != null;
+        }
+        return any ? new AncestorFilter(required) : null;
+    }
+
+    private static @Nullable int[][] requirements(Evaluator eval) {
+        if (Collector.uses(eval, Evaluator.MatchText.class))
+            return null; // modifies the DOM during the traversal
+        List<Evaluator> clauses = eval instanceof CombiningEvaluator.Or ?
+            ((CombiningEvaluator.Or) eval).sortedEvaluators : Collections.singletonList(eval);
+        int[][] required = new int[clauses.size()][];
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < clauses.size(); i++) {
+            keys.clear();
+            ancestorKeys(clauses.get(i), keys);
+            if (keys.isEmpty())
+                return null; // this clause may match any element, so none can be rejected
+            int[] hashes = new int[keys.size()];
+            for (int j = 0; j < hashes.length; j++)
+                hashes[j] = keys.get(j);
+            required[i] = hashes;
+        }
+        return required;
+    }
+
+    /** Adds the keys that some ancestor of any element matched by the evaluator must have. */
+    private static void ancestorKeys(Evaluator eval, List<Integer> keys) {
+        if (eval instanceof CombiningEvaluator.And) {
+            for (Evaluator sub : ((CombiningEvaluator.And) eval).evaluators)
+                ancestorKeys(sub, keys);
+        } else if (eval instanceof StructuralEvaluator.Parent || eval instanceof StructuralEvaluator.ImmediateParent) {
+            Evaluator ancestor = ((StructuralEvaluator) eval).evaluator;
+            ownKeys(ancestor, keys);
+            ancestorKeys(ancestor, keys); // the ancestor's ancestors are ancestors too
+        } else if (eval instanceof StructuralEvaluator.PreviousSibling
+            || eval instanceof StructuralEvaluator.ImmediatePreviousSibling) {
+            ancestorKeys(((StructuralEvaluator) eval).evaluator, keys); // a sibling has the same ancestors
+        }
+    }
+
+    /** Adds the keys that any element matched by the evaluator must have itself. */
+    private static void ownKeys(Evaluator eval, List<Integer> keys) {
+        if (eval instanceof CombiningEvaluator.And) {
+            for (Evaluator sub : ((CombiningEvaluator.And) eval).evaluators)
+                ownKeys(sub, keys);
+        } else if (eval instanceof Evaluator.Tag) {
+            keys.add(tagHash(((Evaluator.Tag) eval).tagName));
+        } else if (eval instanceof Evaluator.Id) {
+            String id = ((Evaluator.Id) eval).id;
+            if (!id.isEmpty())
+                keys.add(idHash(id));
+        } else if (eval instanceof Evaluator.Class) {
+            String className = ((Evaluator.Class) eval).className;
+            if (!className.isEmpty() && !StringUtil.containsWhitespace(className))
+                keys.add(classHash(className, 0, className.length()));
+        }
+    }
+
+    /**
+     Tests if the element being visited may match, given its ancestors.
+     @return false if no ancestor has a tag, id, or class that the query requires; true if it may match
+     */
+    boolean mayMatch() {
+        return mayMatch(0);
+    }
+
+    /**
+     Tests if the element being visited may match the query at the index, given its ancestors.
+     @see #forEvaluators(List)
+     */
+    boolean mayMatch(int query) {
+        int[][] alternatives = required[query];
+        if (alternatives == null)
+            return true;
+        outer:
+        for (int[] hashes : alternatives) {
+            for (int hash : hashes) {
+                if (counts[first(hash)] == 0 || counts[second(hash)] == 0)
+                    continue outer;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /** Adds the element, as the traversal descends into its children. */
+    void push(Element el) {
+        if (depth == marks.length)
+            marks = Arrays.copyOf(marks, depth * 2);
+        marks[depth++] = size;
+
+        if (tags)
+            add(tagHash(el.normalName()));
+        if ((ids || classes) && el.attributesSize() > 0) {
+            Attributes attributes = el.attributes();
+            if (ids) {
+                String id = attributes.getIgnoreCase("id");
+                if (!id.isEmpty())
+                    add(idHash(id));
+            }
+            if (classes)
+                addClasses(attributes.getIgnoreCase("class"));
+        }
+    }
+
+    /** Removes the last pushed element, as the traversal leaves it. */
+    void pop() {
+        int mark = marks[--depth];
+        while (size > mark) {
+            int hash = pushed[--size];
+            counts[first(hash)]--;
+            counts[second(hash)]--;
+        }
+    }
+
+    /** Removes all pushed elements, e.g. after a traversal stopped early. */
+    void clear() {
+        while (depth > 0)
+            pop();
+    }
+
+    private void addClasses(String classAttr) {
+        // split as Element.hasClass does, without allocating
+        int len = classAttr.length();
+        for (int start = AttributeMatch.classStart(classAttr, 0); start < len; ) {
+            int end = AttributeMatch.classEnd(classAttr, start);
+            add(classHash(classAttr, start, end));
+            start = AttributeMatch.classStart(classAttr, end);
+        }
+    }
+
+    private void add(int hash) {
+        if (size == pushed.length)
+            pushed = Arrays.copyOf(pushed, size * 2);
+        pushed[size++] = hash;
+        counts[first(hash)]++;
+        counts[second(hash)]++;
+    }
+
+    // the two counters for a hash, from bits clear of the type bits
+    private static int first(int hash) {
+        return (hash >>> 2) & Mask;
+    }
+
+    private static int second(int hash) {
+        return (hash >>> 12) & Mask;
+    }
+
+    // the low two bits of a hash hold its key type, so the keys pushed can be limited to the types required
+    private static final int TypeMask = 0x3;
+    private static final int TagType = 0x1;
+    private static final int IdType = 0x2;
+    private static final int ClassType = 0x3;
+
+    private static int tagHash(String normalName) {
+        return typed(mix(normalName.hashCode() ^ TagSeed), TagType);
+    }
+
+    private static int idHash(String id) {
+        return typed(mix(id.hashCode() ^ IdSeed), IdType);
+    }
+
+    private static int classHash(String s, int start, int end) {
+        // case-insensitive, as Element.hasClass compares with String.regionMatches(ignoreCase)
+        int h = 0;
+        for (int i = start; i < end; i++)
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        return typed(mix(h ^ ClassSeed), ClassType);
+    }
+
+    private static int typed(int hash, int type) {
+        return (hash & ~TypeMask) | type;
+    }
+
+    /** Spreads the bits of a String hash (the MurmurHash3 finalizer), as the filter indexes from parts of it. */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
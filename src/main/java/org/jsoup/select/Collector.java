@@ -1,11 +1,27 @@
 package org.jsoup.select;
 
+import org.jsoup.internal.StringUtil;
+import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextIndex;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import static org.jsoup.internal.Normalizer.lowerCase;
 import static org.jsoup.select.NodeFilter.FilterResult.CONTINUE;
+import static org.jsoup.select.NodeFilter.FilterResult.SKIP_ENTIRELY;
 import static org.jsoup.select.NodeFilter.FilterResult.STOP;
 
 /**
@@ -24,32 +40,491 @@ public class Collector {
      @return list of matches; empty if none
      */
     public static Elements collect (Evaluator eval, Element root) {
+        boolean tracking = startSelectText(eval, root, true);
+        try {
+            return doCollect(eval, root);
+        } finally {
+            if (tracking) threadSelectText.remove();
+        }
+    }
+
+    private static Elements doCollect(Evaluator eval, Element root) {
+        @Nullable Elements candidates = indexedCandidates(eval, root);
+        if (candidates != null) {
+            if (candidates.isEmpty() || isIndexable(eval))
+                return candidates; // exact match
+            Elements elements = new Elements();
+            for (Element el : candidates) {
+                if (eval.matches(root, el))
+                    elements.add(el);
+            }
+            return elements;
+        }
+
         Elements elements = new Elements();
-        NodeTraversor.traverse(new Accumulator(root, elements, eval), root);
+        NodeTraversor.filter(new Accumulator(root, elements, eval), root);
         return elements;
     }
 
-    private static class Accumulator implements NodeVisitor {
+    /**
+     Build lists of the elements matching each of several evaluators, in a single traversal of the root and its
+     descendants. Each element is tested against the evaluators that may match it: those that require its tag name
+     (found by a single lookup of the name), and those that don't require a tag. The ancestor filter is shared.
+     <p>Evaluators that use {@code :matchText} (which modifies the DOM), or that can be found from the document's index,
+     are collected separately, after the traversal.</p>
+     @param evals the evaluators to test elements against, by name
+     @param root root of tree to descend
+     @return the matches of each evaluator, by name, in the iteration order of evals; each empty if none
+     */
+    public static Map<String, Elements> collectMany(Map<String, Evaluator> evals, Element root) {
+        Map<String, Elements> results = new LinkedHashMap<>();
+        List<Evaluator> traversed = new ArrayList<>();
+        List<Elements> found = new ArrayList<>();
+        List<String> separate = new ArrayList<>();
+        for (Map.Entry<String, Evaluator> entry : evals.entrySet()) {
+            Evaluator eval = entry.getValue();
+            Elements elements = new Elements();
+            results.put(entry.getKey(), elements); // in order, to be filled
+            if (uses(eval, Evaluator.MatchText.class) || indexedCandidates(eval, root) != null) {
+                separate.add(entry.getKey());
+            } else {
+                traversed.add(eval);
+                found.add(elements);
+            }
+        }
+
+        if (!traversed.isEmpty()) {
+            boolean tracking = startSelectText(traversed, root, true);
+            try {
+                NodeTraversor.filter(new MultiAccumulator(root, traversed, found), root);
+            } finally {
+                if (tracking) threadSelectText.remove();
+            }
+        }
+        for (String name : separate) // after the traversal, as :matchText changes the DOM
+            results.put(name, collect(evals.get(name), root));
+        return results;
+    }
+
+    /** Gets the tag name that every element matched by the evaluator must have, or null if it may match any tag. */
+    private static @Nullable String requiredTag(Evaluator eval) {
+        if (eval instanceof Evaluator.Tag)
+            return ((Evaluator.Tag) eval).tagName;
+        if (eval instanceof CombiningEvaluator.And) {
+            for (Evaluator sub : ((CombiningEvaluator.And) eval).evaluators) {
+                if (sub instanceof Evaluator.Tag)
+                    return ((Evaluator.Tag) sub).tagName;
+            }
+        }
+        return null;
+    }
+
+    // the text of the current select on this thread, if its query reads element text. Per select (not per evaluator,
+    // as evaluators are cached and shared between threads), and only while the select runs.
+    private static final ThreadLocal<SelectText> threadSelectText = new ThreadLocal<>();
+
+    /**
+     The text of the elements read during a select. An element is indexed with its descendants, and their text is then
+     read from that index, so when a query like {@code div:contains(price)} tests nested divs, each text node is read
+     about once, rather than once per containing div.
+     <p>When finding the first match, an element is read directly, and only indexed if one of its descendants is read
+     next; so a query that matches the first element read doesn't pay to index it.</p>
+     */
+    private static final class SelectText {
+        final boolean eager; // if elements are indexed when first read, rather than when a descendant is read
+        @Nullable TextIndex index;
+        @Nullable Element lastRead; // the last element read without the index, when not eager
+        @Nullable String lowerCaseText; // the index's text in lower case, or null if not yet built, or if its length differs
+        boolean lowerCaseBuilt = false;
+        final Map<String, int[]> positions = new HashMap<>(); // where each search text is in lowerCaseText
+
+        SelectText(boolean eager) {
+            this.eager = eager;
+        }
+
+        /** Gets the index containing the element, if it is or can be indexed; or null if it should be read directly. */
+        @Nullable TextIndex index(Element el) {
+            TextIndex index = this.index;
+            if (index != null && index.indexes(el))
+                return index;
+            if (!eager && (lastRead == null || !isAncestor(lastRead, el))) {
+                lastRead = el;
+                return null;
+            }
+            index = new TextIndex(eager ? el : lastRead);
+            this.index = index;
+            lastRead = null;
+            lowerCaseText = null;
+            lowerCaseBuilt = false;
+            positions.clear();
+            return index;
+        }
+
+        private static boolean isAncestor(Element ancestor, Element el) {
+            for (Element parent = el.parent(); parent != null; parent = parent.parent()) {
+                if (parent == ancestor)
+                    return true;
+            }
+            return false;
+        }
+
+        boolean containsText(Element el, String searchText) {
+            TextIndex index = index(el);
+            if (index == null)
+                return lowerCase(el.text()).contains(searchText);
+            if (!lowerCaseBuilt) {
+                String text = index.indexedText();
+                String lower = lowerCase(text);
+                lowerCaseText = lower.length() == text.length() ? lower : null; // else positions wouldn't correspond
+                lowerCaseBuilt = true;
+            }
+            if (lowerCaseText == null || searchText.isEmpty())
+                return lowerCase(index.text(el)).contains(searchText);
+
+            int[] found = positions.get(searchText);
+            if (found == null) {
+                found = positions(lowerCaseText, searchText);
+                positions.put(searchText, found);
+            }
+            // the element contains the text if the first occurrence at or after its start is within its end
+            int i = Arrays.binarySearch(found, index.start(el));
+            if (i < 0)
+                i = -i - 1;
+            return i < found.length && found[i] + searchText.length() <= index.end(el);
+        }
+
+        boolean findInText(Element el, Pattern pattern) {
+            TextIndex index = index(el);
+            if (index == null)
+                return pattern.matcher(el.text()).find();
+            Matcher m = pattern.matcher(index.indexedText());
+            m.region(index.start(el), index.end(el)); // with opaque and anchoring bounds, as if matching the element's text
+            return m.find();
+        }
+
+        /** All positions of the search text in the text, ascending, including those that overlap. */
+        private static int[] positions(String text, String searchText) {
+            int[] found = new int[8];
+            int size = 0;
+            for (int pos = text.indexOf(searchText); pos != -1; pos = text.indexOf(searchText, pos + 1)) {
+                if (size == found.length)
+                    found = Arrays.copyOf(found, size * 2);
+                found[size++] = pos;
+            }
+            return Arrays.copyOf(found, size);
+        }
+    }
+
+    /**
+     Starts tracking this thread's select text, if the query reads the text of the elements it tests, and none is
+     already running. Not used if the query modifies the DOM.
+     <p>If the document {@link org.jsoup.nodes.Document#cacheText(boolean) caches text}, the select reads from its own
+     index rather than the cache, as filling the cache writes to the document, and selects may read it concurrently
+     (e.g. {@link Selector#selectAll}).</p>
+     @param eager if elements are indexed when first read (when collecting all matches), or only once their descendants
+     are read (when finding the first). Always eager when the document caches text, so that no element's text is read
+     directly through the cache.
+     @return true if started, and so must be removed when the select completes
+     */
+    private static boolean startSelectText(Evaluator eval, Element root, boolean eager) {
+        return startSelectText(Collections.singletonList(eval), root, eager);
+    }
+
+    /** Starts tracking this thread's select text, if any of the queries read text, and none modify the DOM. */
+    private static boolean startSelectText(List<Evaluator> evals, Element root, boolean eager) {
+        if (threadSelectText.get() != null)
+            return false;
+        boolean reads = false;
+        for (Evaluator eval : evals) {
+            if (uses(eval, Evaluator.MatchText.class))
+                return false;
+            reads |= readsText(eval);
+        }
+        if (!reads)
+            return false;
+        Document doc = root.ownerDocument();
+        if (doc != null && doc.cacheText() && !doc.frozen())
+            eager = true; // bypasses the cache
+        threadSelectText.set(new SelectText(eager));
+        return true;
+    }
+
+    private static boolean readsText(Evaluator eval) {
+        return uses(eval, Evaluator.ContainsText.class) || uses(eval, Evaluator.Matches.class);
+    }
+
+    /** Tests if the evaluator, or any evaluator it combines or is structured on, is of the given type. */
+    static boolean uses(Evaluator eval, Class<? extends Evaluator> type) {
+        if (type.isInstance(eval))
+            return true;
+        if (eval instanceof CombiningEvaluator) {
+            for (Evaluator sub : ((CombiningEvaluator) eval).evaluators) {
+                if (uses(sub, type))
+                    return true;
+            }
+        } else if (eval instanceof StructuralEvaluator) {
+            return uses(((StructuralEvaluator) eval).evaluator, type);
+        }
+        return false;
+    }
+
+    /** Tests if the element's text contains the (lower case) search text, case-insensitively. */
+    static boolean containsText(Element el, String searchText) {
+        SelectText selectText = threadSelectText.get();
+        return selectText != null ? selectText.containsText(el, searchText) : lowerCase(el.text()).contains(searchText);
+    }
+
+    /** Tests if the pattern finds a match in the element's text. */
+    static boolean findInText(Element el, Pattern pattern) {
+        SelectText selectText = threadSelectText.get();
+        return selectText != null ? selectText.findInText(el, pattern) : pattern.matcher(el.text()).find();
+    }
+
+    /**
+     Gets the components of an evaluator that only matches elements containing some text, being a {@code :contains}
+     evaluator, or an And evaluator with one. An element that doesn't contain that text has no descendant that does (as
+     their text is part of its text), so when an element misses on the text, its subtree can be skipped.
+     @return the components of the evaluator, in match order; or null if it has no such text component
+     */
+    private static @Nullable List<Evaluator> textPrunedComponents(Evaluator eval) {
+        if (eval instanceof Evaluator.ContainsText)
+            return Collections.singletonList(eval);
+        if (eval instanceof CombiningEvaluator.And) {
+            List<Evaluator> components = ((CombiningEvaluator.And) eval).sortedEvaluators;
+            for (Evaluator sub : components) {
+                if (sub instanceof Evaluator.ContainsText)
+                    return components;
+            }
+        }
+        return null;
+    }
+
+    /**
+     Finds the holders for each {@code :has} component of the evaluator (the evaluator itself, or a component of an And)
+     whose search can be run once from the root, rather than once per candidate. The holders of a {@code :has(x)} are
+     the elements (within the root) with a descendant that matches x, when x is tested from the root. A :has only
+     matches an element with a descendant that matches x from that element; and as x is root-monotone (see
+     Selector#isRootMonotone), that descendant also matches from the (outer) root. So an element that isn't a holder
+     can be rejected without searching its subtree.
+     @return a set of holders for each such component; or null if there are none
+     */
+    private static @Nullable List<Set<Element>> hasHolders(Evaluator eval, Element root) {
+        List<Evaluator> components;
+        if (eval instanceof StructuralEvaluator.Has)
+            components = Collections.singletonList(eval);
+        else if (eval instanceof CombiningEvaluator.And)
+            components = ((CombiningEvaluator.And) eval).sortedEvaluators;
+        else
+            return null;
+
+        List<Set<Element>> holdersList = null;
+        for (Evaluator component : components) {
+            if (!(component instanceof StructuralEvaluator.Has))
+                continue;
+            Evaluator search = ((StructuralEvaluator.Has) component).evaluator;
+            if (!Selector.isRootMonotone(search))
+                continue;
+
+            Set<Element> holders = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Element match : collect(search, root)) {
+                // add each ancestor up to the root, stopping at one already added (as its ancestors were too)
+                for (Element parent = match.parent(); parent != null && holders.add(parent); parent = parent.parent()) {
+                    if (parent == root) break;
+                }
+            }
+            if (holdersList == null) holdersList = new ArrayList<>();
+            holdersList.add(holders);
+        }
+        return holdersList;
+    }
+
+    /**
+     If the root is an indexed Document, finds the candidate elements (in document order) for the evaluator from the
+     document's index: the elements matching the evaluator if it is an id, class, or tag evaluator; or, for an And
+     evaluator, the fewest candidates of its id, class, or tag components.
+     @return the candidates, or null if the index can't be used, and the tree must be traversed.
+     */
+    private static @Nullable Elements indexedCandidates(Evaluator eval, Element root) {
+        if (!(root instanceof Document) || !((Document) root).indexed())
+            return null;
+        Document doc = (Document) root;
+
+        if (isIndexable(eval))
+            return lookup(eval, doc);
+        if (!(eval instanceof CombiningEvaluator.And))
+            return null;
+
+        Elements fewest = null;
+        for (Evaluator sub : ((CombiningEvaluator.And) eval).sortedEvaluators) {
+            if (sub instanceof Evaluator.MatchText)
+                return null; // modifies the DOM during the match; must traverse
+            if (isIndexable(sub)) {
+                Elements candidates = lookup(sub, doc);
+                if (fewest == null || candidates.size() < fewest.size())
+                    fewest = candidates;
+            }
+        }
+        return fewest;
+    }
+
+    private static boolean isIndexable(Evaluator eval) {
+        return eval instanceof Evaluator.Id || eval instanceof Evaluator.Tag
+            || (eval instanceof Evaluator.Class && !StringUtil.containsWhitespace(((Evaluator.Class) eval).className));
+    }
+
+    private static Elements lookup(Evaluator eval, Document doc) {
+        if (eval instanceof Evaluator.Id)
+            return doc.getElementsById(((Evaluator.Id) eval).id);
+        else if (eval instanceof Evaluator.Class)
+            return doc.getElementsByClass(((Evaluator.Class) eval).className);
+        else
+            return doc.getElementsByTag(((Evaluator.Tag) eval).tagName);
+    }
+
+    private static class Accumulator implements NodeFilter {
         private final Element root;
         private final Elements elements;
         private final Evaluator eval;
+        private final @Nullable List<Evaluator> components; // set if a miss on a :contains can skip the subtree
+        private final @Nullable AncestorFilter ancestors; // set if the query requires keys of the ancestors
+        private final @Nullable List<Set<Element>> hasHolders; // set if the query has :has components that can prefilter
 
         Accumulator(Element root, Elements elements, Evaluator eval) {
             this.root = root;
             this.elements = elements;
             this.eval = eval;
+            components = textPrunedComponents(eval);
+            ancestors = AncestorFilter.forEvaluator(eval);
+            hasHolders = hasHolders(eval, root);
         }
 
-        public void head(Node node, int depth) {
+        @Override public FilterResult head(Node node, int depth) {
             if (node instanceof Element) {
                 Element el = (Element) node;
+                FilterResult result = test(el);
+                if (ancestors != null && result == CONTINUE && el.childNodeSize() > 0)
+                    ancestors.push(el);
+                return result;
+            }
+            return CONTINUE;
+        }
+
+        private FilterResult test(Element el) {
+            if (ancestors != null && !ancestors.mayMatch())
+                return CONTINUE;
+            if (hasHolders != null) {
+                for (int i = 0; i < hasHolders.size(); i++) {
+                    if (!hasHolders.get(i).contains(el))
+                        return CONTINUE;
+                }
+            }
+            if (components == null) {
                 if (eval.matches(root, el))
                     elements.add(el);
+                return CONTINUE;
+            }
+
+            // test each component here (as the And would), to know if the miss was on the text
+            for (int i = 0; i < components.size(); i++) {
+                Evaluator component = components.get(i);
+                if (!component.matches(root, el))
+                    return component instanceof Evaluator.ContainsText ? SKIP_ENTIRELY : CONTINUE;
             }
+            elements.add(el);
+            return CONTINUE;
         }
 
-        public void tail(Node node, int depth) {
-            // void
+        @Override public FilterResult tail(Node node, int depth) {
+            if (ancestors != null && node instanceof Element && node.childNodeSize() > 0)
+                ancestors.pop();
+            return CONTINUE;
+        }
+    }
+
+    private static class MultiAccumulator implements NodeFilter {
+        private static final int[] None = new int[0];
+        private final Element root;
+        private final Evaluator[] evals;
+        private final List<Elements> found;
+        private final Map<String, int[]> byTag = new HashMap<>(); // the queries that require each tag name
+        private final int[] anyTag; // the queries that may match any tag
+        private final @Nullable AncestorFilter ancestors; // set if any query requires keys of the ancestors
+        private final List<List<Set<Element>>> hasHolders; // for each query, its :has holders, or null
+
+        MultiAccumulator(Element root, List<Evaluator> evals, List<Elements> found) {
+            this.root = root;
+            this.found = found;
+            int size = evals.size();
+            this.evals = evals.toArray(new Evaluator[0]);
+            hasHolders = new ArrayList<>(size);
+            Map<String, List<Integer>> tagQueries = new HashMap<>();
+            List<Integer> anyTagQueries = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                Evaluator eval = evals.get(i);
+                hasHolders.add(hasHolders(eval, root));
+                String tag = requiredTag(eval);
+                if (tag != null) {
+                    List<Integer> queries = tagQueries.get(tag);
+                    if (queries == null) {
+                        queries = new ArrayList<>();
+                        tagQueries.put(tag, queries);
+                    }
+                    queries.add(i);
+                } else {
+                    anyTagQueries.add(i);
+                }
+            }
+            for (Map.Entry<String, List<Integer>> entry : tagQueries.entrySet())
+                byTag.put(entry.getKey(), toArray(entry.getValue()));
+            anyTag = toArray(anyTagQueries);
+            ancestors = AncestorFilter.forEvaluators(evals);
+        }
+
+        private static int[] toArray(List<Integer> list) {
+            if (list.isEmpty()) return None;
+            int[] array = new int[list.size()];
+            for (int i = 0; i < array.length; i++)
+                array[i] = list.get(i);
+            return array;
+        }
+
+        @Override public FilterResult head(Node node, int depth) {
+            if (node instanceof Element) {
+                Element el = (Element) node;
+                int[] tagged = byTag.get(el.normalName());
+                if (tagged != null)
+                    test(el, tagged);
+                test(el, anyTag);
+                if (ancestors != null && el.childNodeSize() > 0)
+                    ancestors.push(el);
+            }
+            return CONTINUE;
+        }
+
+        private void test(Element el, int[] queries) {
+            for (int query : queries) {
+                if (ancestors != null && !ancestors.mayMatch(query))
+                    continue;
+                List<Set<Element>> holders = hasHolders.get(query);
+                if (holders != null && !isHolder(holders, el))
+                    continue;
+                if (evals[query].matches(root, el))
+                    found.get(query).add(el);
+            }
+        }
+
+        private static boolean isHolder(List<Set<Element>> holders, Element el) {
+            for (int i = 0; i < holders.size(); i++) {
+                if (!holders.get(i).contains(el))
+                    return false;
+            }
+            return true;
+        }
+
+        @Override public FilterResult tail(Node node, int depth) {
+            if (ancestors != null && node instanceof Element && node.childNodeSize() > 0)
+                ancestors.pop();
+            return CONTINUE;
         }
     }
 
@@ -61,6 +536,24 @@ public class Collector {
      @return the first match; {@code null} if none
      */
     public static @Nullable Element findFirst(Evaluator eval, Element root) {
+        boolean tracking = startSelectText(eval, root, false);
+        try {
+            return doFindFirst(eval, root);
+        } finally {
+            if (tracking) threadSelectText.remove();
+        }
+    }
+
+    private static @Nullable Element doFindFirst(Evaluator eval, Element root) {
+        @Nullable Elements candidates = indexedCandidates(eval, root);
+        if (candidates != null) {
+            for (Element el : candidates) {
+                if (eval.matches(root, el))
+                    return el;
+            }
+            return null;
+        }
+
         FirstFinder finder = new FirstFinder(eval);
         return finder.find(root, root);
     }
@@ -69,32 +562,54 @@ public class Collector {
         private @Nullable Element evalRoot = null;
         private @Nullable Element match = null;
         private final Evaluator eval;
+        private final @Nullable AncestorFilter ancestors; // set if the query requires keys of the ancestors
 
         FirstFinder(Evaluator eval) {
             this.eval = eval;
+            ancestors = AncestorFilter.forEvaluator(eval);
         }
 
         @Nullable Element find(Element root, Element start) {
             evalRoot = root;
             match = null;
+            if (ancestors != null) {
+                ancestors.clear(); // a previous find may have stopped within its tree
+                if (start != root)
+                    pushAncestors(root, start);
+            }
             NodeTraversor.filter(this, start);
             return match;
         }
 
+        /** Pushes the ancestors of the element, from the root down, as a traversal from the root would have. */
+        private void pushAncestors(Element root, Element el) {
+            assert ancestors != null;
+            Element parent = el.parent();
+            if (parent == null)
+                return;
+            if (parent != root)
+                pushAncestors(root, parent);
+            ancestors.push(parent);
+        }
+
         @Override
         public FilterResult head(Node node, int depth) {
             if (node instanceof Element) {
                 Element el = (Element) node;
-                if (eval.matches(evalRoot, el)) {
+                if ((ancestors == null || ancestors.mayMatch()) && eval.matches(evalRoot, el)) {
                     match = el;
                     return STOP;
                 }
+                if (ancestors != null && el.childNodeSize() > 0)
+                    ancestors.push(el);
             }
             return CONTINUE;
         }
 
         @Override
         public FilterResult tail(Node node, int depth) {
+            if (ancestors != null && node instanceof Element && node.childNodeSize() > 0)
+                ancestors.pop();
             return CONTINUE;
         }
     }
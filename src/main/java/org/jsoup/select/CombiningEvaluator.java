@@ -7,17 +7,22 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 
 /**
  * Base combining (and, or) evaluator.
  */
 public abstract class CombiningEvaluator extends Evaluator {
-    final ArrayList<Evaluator> evaluators;
+    final ArrayList<Evaluator> evaluators; // in query order, for toString()
+    final ArrayList<Evaluator> sortedEvaluators; // cost ascending, for matching, and toMatchOrderString()
     int num = 0;
+    int cost = 0;
 
     CombiningEvaluator() {
         super();
         evaluators = new ArrayList<>();
+        sortedEvaluators = new ArrayList<>();
     }
 
     CombiningEvaluator(Collection<Evaluator> evaluators) {
@@ -32,13 +37,63 @@ public abstract class CombiningEvaluator extends Evaluator {
     
     void replaceRightMostEvaluator(Evaluator replacement) {
         evaluators.set(num - 1, replacement);
+        updateNumEvaluators();
     }
 
     void updateNumEvaluators() {
         // used so we don't need to bash on size() for every match test
         num = evaluators.size();
+
+        // sort the evaluators by lowest cost first, to reduce the number of expensive tests. Only changes during parse.
+        cost = 0;
+        for (int i = 0; i < num; i++) {
+            cost += evaluators.get(i).cost();
+        }
+        sortedEvaluators.clear();
+        sortedEvaluators.addAll(evaluators);
+        Collections.sort(sortedEvaluators, costComparator); // stable, so equal costs retain query order
     }
 
+    @Override
+    protected int cost() {
+        return cost;
+    }
+
+    /**
+     Render this evaluator with its components in the order they are tested when matching, which is by ascending
+     {@link Evaluator#cost() cost}. {@link #toString()} renders them in query order instead, so that the query reads as it
+     was written. Nested And and Or evaluators are rendered in their match order too. Useful for debugging a query's
+     performance.
+     @return the components, in match order
+     @since 1.15.2
+     */
+    public String toMatchOrderString() {
+        StringBuilder sb = StringUtil.borrowBuilder();
+        for (int i = 0; i < num; i++) {
+            if (i > 0) sb.append(separator());
+            Evaluator s = sortedEvaluators.get(i);
+            sb.append(s instanceof CombiningEvaluator ? ((CombiningEvaluator) s).toMatchOrderString() : s.toString());
+        }
+        return StringUtil.releaseBuilder(sb);
+    }
+
+    abstract String separator();
+
+    /**
+     Render this evaluator with its components in query order. They are matched in cost order; see
+     {@link #toMatchOrderString()}.
+     */
+    @Override
+    public String toString() {
+        return StringUtil.join(evaluators, separator());
+    }
+
+    private static final Comparator<Evaluator> costComparator = new Comparator<Evaluator>() {
+        @Override public int compare(Evaluator o1, Evaluator o2) {
+            return o1.cost() - o2.cost();
+        }
+    };
+
     public static final class And extends CombiningEvaluator {
         And(Collection<Evaluator> evaluators) {
             super(evaluators);
@@ -50,8 +105,8 @@ public abstract class CombiningEvaluator extends Evaluator {
 
         @Override
         public boolean matches(Element root, Element node) {
-            for (int i = num - 1; i >= 0; i--) { // process backwards so that :matchText is evaled earlier, to catch parent query. todo - should redo matchText to virtually expand during match, not pre-match (see SelectorTest#findBetweenSpan)
-                Evaluator s = evaluators.get(i);
+            for (int i = 0; i < num; i++) { // in cost order; :matchText has the lowest cost, so is evaled first, to catch parent query. todo - should redo matchText to virtually expand during match, not pre-match (see SelectorTest#findBetweenSpan)
+                Evaluator s = sortedEvaluators.get(i);
                 if (!s.matches(root, node))
                     return false;
             }
@@ -59,8 +114,8 @@ public abstract class CombiningEvaluator extends Evaluator {
         }
 
         @Override
-        public String toString() {
-            return StringUtil.join(evaluators, "");
+        String separator() {
+            return "";
         }
     }
 
@@ -92,7 +147,7 @@ public abstract class CombiningEvaluator extends Evaluator {
         @Override
         public boolean matches(Element root, Element node) {
             for (int i = 0; i < num; i++) {
-                Evaluator s = evaluators.get(i);
+                Evaluator s = sortedEvaluators.get(i);
                 if (s.matches(root, node))
                     return true;
             }
@@ -100,8 +155,8 @@ public abstract class CombiningEvaluator extends Evaluator {
         }
 
         @Override
-        public String toString() {
-            return StringUtil.join(evaluators, ", ");
+        String separator() {
+            return ", ";
         }
     }
 }
@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  A list of {@link Element}s, with methods that act on every element in the list.
@@ -459,6 +460,19 @@ public class Elements extends ArrayList<Element> {
         return Selector.select(query, this);
     }
 
+    /**
+     * Find matching elements within this element list, selecting from the elements in parallel on the supplied
+     * executor. Useful for large element lists, e.g. a list of many documents.
+     * @param query A {@link Selector} query
+     * @param executor the executor to run the select on
+     * @return the filtered list of elements, in the order of this list, or an empty list if none match.
+     * @see Selector#selectAll(String, Collection, Executor)
+     * @since 1.15.2
+     */
+    public Elements select(String query, Executor executor) {
+        return Selector.selectAll(query, this, executor);
+    }
+
     /**
      * Remove elements from this list that match the {@link Selector} query.
      * <p>
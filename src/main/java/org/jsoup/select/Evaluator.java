@@ -1,6 +1,7 @@
 package org.jsoup.select;
 
 import org.jsoup.helper.Validate;
+import org.jsoup.internal.AttributeMatch;
 import org.jsoup.internal.StringUtil;
 import org.jsoup.nodes.Comment;
 import org.jsoup.nodes.Document;
@@ -37,11 +38,22 @@ public abstract class Evaluator {
      */
     public abstract boolean matches(Element root, Element element);
 
+    /**
+     * Get the relative cost of this evaluator, used to order the evaluators in a combined query so that the cheaper
+     * tests are run first (and can reject an element before the more expensive ones run). E.g. a tag name test is
+     * cheap; a text match or a {@code :has()} descendant search is expensive.
+     * <p>Default cost is 5. Override in custom evaluators to tune.</p>
+     * @return the relative cost of this evaluator
+     */
+    protected int cost() {
+        return 5;
+    }
+
     /**
      * Evaluator for tag name
      */
     public static final class Tag extends Evaluator {
-        private final String tagName;
+        final String tagName;
 
         public Tag(String tagName) {
             this.tagName = tagName;
@@ -56,6 +68,11 @@ public abstract class Evaluator {
         public String toString() {
             return String.format("%s", tagName);
         }
+
+        @Override
+        protected int cost() {
+            return 1;
+        }
     }
 
 
@@ -63,7 +80,7 @@ public abstract class Evaluator {
      * Evaluator for tag name that ends with
      */
     public static final class TagEndsWith extends Evaluator {
-        private final String tagName;
+        final String tagName;
 
         public TagEndsWith(String tagName) {
             this.tagName = tagName;
@@ -78,13 +95,18 @@ public abstract class Evaluator {
         public String toString() {
             return String.format("%s", tagName);
         }
+
+        @Override
+        protected int cost() {
+            return 1;
+        }
     }
 
     /**
      * Evaluator for element id
      */
     public static final class Id extends Evaluator {
-        private final String id;
+        final String id;
 
         public Id(String id) {
             this.id = id;
@@ -100,13 +122,17 @@ public abstract class Evaluator {
             return String.format("#%s", id);
         }
 
+        @Override
+        protected int cost() {
+            return 2;
+        }
     }
 
     /**
      * Evaluator for element class
      */
     public static final class Class extends Evaluator {
-        private final String className;
+        final String className;
 
         public Class(String className) {
             this.className = className;
@@ -122,13 +148,17 @@ public abstract class Evaluator {
             return String.format(".%s", className);
         }
 
+        @Override
+        protected int cost() {
+            return 6; // hasClass scans the class attribute
+        }
     }
 
     /**
      * Evaluator for attribute name matching
      */
     public static final class Attribute extends Evaluator {
-        private final String key;
+        final String key;
 
         public Attribute(String key) {
             this.key = key;
@@ -144,13 +174,17 @@ public abstract class Evaluator {
             return String.format("[%s]", key);
         }
 
+        @Override
+        protected int cost() {
+            return 2;
+        }
     }
 
     /**
      * Evaluator for attribute name prefix matching
      */
     public static final class AttributeStarting extends Evaluator {
-        private final String keyPrefix;
+        final String keyPrefix;
 
         public AttributeStarting(String keyPrefix) {
             Validate.notEmpty(keyPrefix);
@@ -159,12 +193,7 @@ public abstract class Evaluator {
 
         @Override
         public boolean matches(Element root, Element element) {
-            List<org.jsoup.nodes.Attribute> values = element.attributes().asList();
-            for (org.jsoup.nodes.Attribute attribute : values) {
-                if (lowerCase(attribute.getKey()).startsWith(keyPrefix))
-                    return true;
-            }
-            return false;
+            return AttributeMatch.hasKeyStarting(element.attributes(), keyPrefix);
         }
 
         @Override
@@ -172,6 +201,10 @@ public abstract class Evaluator {
             return String.format("[^%s]", keyPrefix);
         }
 
+        @Override
+        protected int cost() {
+            return 6; // scans all attribute keys
+        }
     }
 
     /**
@@ -184,7 +217,7 @@ public abstract class Evaluator {
 
         @Override
         public boolean matches(Element root, Element element) {
-            return element.hasAttr(key) && value.equalsIgnoreCase(element.attr(key).trim());
+            return element.hasAttr(key) && AttributeMatch.valueEquals(element.attr(key), value);
         }
 
         @Override
@@ -192,6 +225,10 @@ public abstract class Evaluator {
             return String.format("[%s=%s]", key, value);
         }
 
+        @Override
+        protected int cost() {
+            return 3;
+        }
     }
 
     /**
@@ -204,7 +241,7 @@ public abstract class Evaluator {
 
         @Override
         public boolean matches(Element root, Element element) {
-            return !value.equalsIgnoreCase(element.attr(key));
+            return AttributeMatch.valueNotEquals(element.attr(key), value);
         }
 
         @Override
@@ -212,6 +249,10 @@ public abstract class Evaluator {
             return String.format("[%s!=%s]", key, value);
         }
 
+        @Override
+        protected int cost() {
+            return 3;
+        }
     }
 
     /**
@@ -224,7 +265,7 @@ public abstract class Evaluator {
 
         @Override
         public boolean matches(Element root, Element element) {
-            return element.hasAttr(key) && lowerCase(element.attr(key)).startsWith(value); // value is lower case already
+            return element.hasAttr(key) && AttributeMatch.valueStarting(element.attr(key), value); // value is lower case already
         }
 
         @Override
@@ -232,6 +273,10 @@ public abstract class Evaluator {
             return String.format("[%s^=%s]", key, value);
         }
 
+        @Override
+        protected int cost() {
+            return 4;
+        }
     }
 
     /**
@@ -244,7 +289,7 @@ public abstract class Evaluator {
 
         @Override
         public boolean matches(Element root, Element element) {
-            return element.hasAttr(key) && lowerCase(element.attr(key)).endsWith(value); // value is lower case
+            return element.hasAttr(key) && AttributeMatch.valueEnding(element.attr(key), value); // value is lower case
         }
 
         @Override
@@ -252,6 +297,10 @@ public abstract class Evaluator {
             return String.format("[%s$=%s]", key, value);
         }
 
+        @Override
+        protected int cost() {
+            return 4;
+        }
     }
 
     /**
@@ -264,7 +313,7 @@ public abstract class Evaluator {
 
         @Override
         public boolean matches(Element root, Element element) {
-            return element.hasAttr(key) && lowerCase(element.attr(key)).contains(value); // value is lower case
+            return element.hasAttr(key) && AttributeMatch.valueContaining(element.attr(key), value); // value is lower case
         }
 
         @Override
@@ -272,6 +321,10 @@ public abstract class Evaluator {
             return String.format("[%s*=%s]", key, value);
         }
 
+        @Override
+        protected int cost() {
+            return 6;
+        }
     }
 
     /**
@@ -288,7 +341,7 @@ public abstract class Evaluator {
 
         @Override
         public boolean matches(Element root, Element element) {
-            return element.hasAttr(key) && pattern.matcher(element.attr(key)).find();
+            return element.hasAttr(key) && AttributeMatch.valueMatching(element.attr(key), pattern);
         }
 
         @Override
@@ -296,6 +349,10 @@ public abstract class Evaluator {
             return String.format("[%s~=%s]", key, pattern.toString());
         }
 
+        @Override
+        protected int cost() {
+            return 8;
+        }
     }
 
     /**
@@ -338,6 +395,11 @@ public abstract class Evaluator {
         public String toString() {
             return "*";
         }
+
+        @Override
+        protected int cost() {
+            return 10; // always matches, so test last
+        }
     }
 
     /**
@@ -599,6 +661,11 @@ public abstract class Evaluator {
     	public String toString() {
     		return ":root";
     	}
+
+        @Override
+        protected int cost() {
+            return 1;
+        }
     }
 
     public static final class IsOnlyChild extends Evaluator {
@@ -672,13 +739,18 @@ public abstract class Evaluator {
 
         @Override
         public boolean matches(Element root, Element element) {
-            return lowerCase(element.text()).contains(searchText);
+            return Collector.containsText(element, searchText);
         }
 
         @Override
         public String toString() {
             return String.format(":contains(%s)", searchText);
         }
+
+        @Override
+        protected int cost() {
+            return 10; // builds the normalized text of the subtree
+        }
     }
 
     /**
@@ -702,6 +774,11 @@ public abstract class Evaluator {
         public String toString() {
             return String.format(":containsWholeText(%s)", searchText);
         }
+
+        @Override
+        protected int cost() {
+            return 10;
+        }
     }
 
     /**
@@ -725,6 +802,11 @@ public abstract class Evaluator {
         public String toString() {
             return String.format(":containsWholeOwnText(%s)", searchText);
         }
+
+        @Override
+        protected int cost() {
+            return 8;
+        }
     }
 
     /**
@@ -746,6 +828,11 @@ public abstract class Evaluator {
         public String toString() {
             return String.format(":containsData(%s)", searchText);
         }
+
+        @Override
+        protected int cost() {
+            return 10;
+        }
     }
 
     /**
@@ -767,6 +854,11 @@ public abstract class Evaluator {
         public String toString() {
             return String.format(":containsOwn(%s)", searchText);
         }
+
+        @Override
+        protected int cost() {
+            return 8;
+        }
     }
 
     /**
@@ -781,14 +873,18 @@ public abstract class Evaluator {
 
         @Override
         public boolean matches(Element root, Element element) {
-            Matcher m = pattern.matcher(element.text());
-            return m.find();
+            return Collector.findInText(element, pattern);
         }
 
         @Override
         public String toString() {
             return String.format(":matches(%s)", pattern);
         }
+
+        @Override
+        protected int cost() {
+            return 12; // subtree text, plus regex
+        }
     }
 
     /**
@@ -811,6 +907,11 @@ public abstract class Evaluator {
         public String toString() {
             return String.format(":matchesOwn(%s)", pattern);
         }
+
+        @Override
+        protected int cost() {
+            return 9;
+        }
     }
 
     /**
@@ -834,6 +935,11 @@ public abstract class Evaluator {
         public String toString() {
             return String.format(":matchesWholeText(%s)", pattern);
         }
+
+        @Override
+        protected int cost() {
+            return 12;
+        }
     }
 
     /**
@@ -857,6 +963,11 @@ public abstract class Evaluator {
         public String toString() {
             return String.format(":matchesWholeOwnText(%s)", pattern);
         }
+
+        @Override
+        protected int cost() {
+            return 9;
+        }
     }
 
     public static final class MatchText extends Evaluator {
@@ -880,5 +991,10 @@ public abstract class Evaluator {
         public String toString() {
             return ":matchText";
         }
+
+        @Override
+        protected int cost() {
+            return -1; // run first, so that the text nodes are expanded before other evaluators in the query test
+        }
     }
 }
@@ -0,0 +1,60 @@
+package org.jsoup.select;
+
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ A bounded, thread-safe, least-recently-used cache of parsed queries. Parsed Evaluators are immutable, so may be shared
+ between threads and reused across selects.
+ <p>Lookups and insertions hold a lock only for the map access; the parse itself happens outside of the lock, so
+ concurrent misses for the same query may both parse it, and the last one in wins.</p>
+ */
+final class QueryCache {
+    private final int maxSize;
+    private final LinkedHashMap<String, Evaluator> map;
+    private long hits = 0;
+    private long misses = 0;
+
+    QueryCache(final int maxSize) {
+        this.maxSize = maxSize;
+        map = new LinkedHashMap<String, Evaluator>(16, 0.75f, true) { // access ordered, for LRU
+            @Override protected boolean removeEldestEntry(Map.Entry<String, Evaluator> eldest) {
+                return size() > QueryCache.this.maxSize;
+            }
+        };
+    }
+
+    @Nullable synchronized Evaluator get(String query) {
+        Evaluator eval = map.get(query);
+        if (eval != null) hits++;
+        else misses++;
+        return eval;
+    }
+
+    synchronized void put(String query, Evaluator eval) {
+        map.put(query, eval);
+    }
+
+    synchronized int size() {
+        return map.size();
+    }
+
+    int maxSize() {
+        return maxSize;
+    }
+
+    synchronized long hits() {
+        return hits;
+    }
+
+    synchronized long misses() {
+        return misses;
+    }
+
+    synchronized void clear() {
+        map.clear();
+        hits = 0;
+        misses = 0;
+    }
+}
@@ -18,6 +18,8 @@ public class QueryParser {
     private final static String[] combinators = {",", ">", "+", "~", " "};
     private static final String[] AttributeEvals = new String[]{"=", "!=", "^=", "$=", "*=", "~="};
 
+    static final QueryCache cache = new QueryCache(512);
+
     private final TokenQueue tq;
     private final String query;
     private final List<Evaluator> evals = new ArrayList<>();
@@ -34,12 +36,25 @@ public class QueryParser {
     }
 
     /**
-     * Parse a CSS query into an Evaluator.
+     * Parse a CSS query into an Evaluator. Parsed queries are cached (in a bounded, least-recently-used cache), so
+     * repeated queries return the same, reusable Evaluator.
      * @param query CSS query
      * @return Evaluator
      * @see Selector selector query syntax
      */
     public static Evaluator parse(String query) {
+        Evaluator eval = cache.get(query);
+        if (eval == null) {
+            eval = parseQuery(query);
+            cache.put(query, eval);
+        }
+        return eval;
+    }
+
+    /**
+     Parse a query without using the cache. Used for sub-queries, so that the cache only holds the top-level queries.
+     */
+    private static Evaluator parseQuery(String query) {
         try {
             QueryParser p = new QueryParser(query);
             return p.parse();
@@ -87,7 +102,7 @@ public class QueryParser {
 
         Evaluator rootEval; // the new topmost evaluator
         Evaluator currentEval; // the evaluator the new eval will be combined to. could be root, or rightmost or.
-        Evaluator newEval = parse(subQuery); // the evaluator to add into target evaluator
+        Evaluator newEval = parseQuery(subQuery); // the evaluator to add into target evaluator
         boolean replaceRightMost = false;
 
         if (evals.size() == 1) {
@@ -361,7 +376,7 @@ public class QueryParser {
         tq.consume(":has");
         String subQuery = tq.chompBalanced('(', ')');
         Validate.notEmpty(subQuery, ":has(selector) subselect must not be empty");
-        evals.add(new StructuralEvaluator.Has(parse(subQuery)));
+        evals.add(new StructuralEvaluator.Has(parseQuery(subQuery)));
     }
 
     // pseudo selector :contains(text), containsOwn(text)
@@ -423,7 +438,7 @@ public class QueryParser {
         String subQuery = tq.chompBalanced('(', ')');
         Validate.notEmpty(subQuery, ":not(selector) subselect must not be empty");
 
-        evals.add(new StructuralEvaluator.Not(parse(subQuery)));
+        evals.add(new StructuralEvaluator.Not(parseQuery(subQuery)));
     }
 
     @Override
@@ -7,6 +7,15 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * CSS-like element selector, that finds elements matching a query.
@@ -123,6 +132,15 @@ public class Selector {
         Validate.notNull(roots);
         Evaluator evaluator = QueryParser.parse(query);
         Elements elements = new Elements();
+        @Nullable List<Element> outermost = isRootMonotone(evaluator) ? outermostRoots(roots) : null;
+        if (outermost != null) {
+            // each outermost root's traversal includes the matches of the roots nested within it, so walk each once
+            for (Element root : outermost) {
+                elements.addAll(select(evaluator, root));
+            }
+            return elements;
+        }
+
         IdentityHashMap<Element, Boolean> seenElements = new IdentityHashMap<>();
         // dedupe elements by identity, not equality
 
@@ -137,18 +155,306 @@ public class Selector {
         return elements;
     }
 
+    /**
+     * Find the elements matching each of many queries, in a single traversal of the root. Each element is visited once,
+     * and tested against the queries that may match it: queries that require a tag name (e.g. {@code a[href]}) are only
+     * tested against elements with that tag. This is quicker than a select per query, when extracting many queries from
+     * each document.
+     * <p>Queries using {@code :matchText} modify the DOM, so are selected separately, after the others.</p>
+     *
+     * @param evaluators the queries to find, by name (e.g. compiled with {@link #compile(String)})
+     * @param root root element to descend into
+     * @return the matches of each query, by name, in the iteration order of the evaluators; each empty if none
+     * @since 1.15.2
+     */
+    public static Map<String, Elements> selectMany(Map<String, Evaluator> evaluators, Element root) {
+        Validate.notNull(evaluators);
+        Validate.notNull(root);
+        for (Evaluator evaluator : evaluators.values())
+            Validate.notNull(evaluator);
+        return Collector.collectMany(evaluators, root);
+    }
+
+    /**
+     * Find elements matching the query, across many roots in parallel. The query is parsed once, and the roots are
+     * split into batches that are selected on the supplied executor (with the calling thread also working a batch).
+     * This call blocks until all roots have been selected. If the executor is a {@link ForkJoinPool}, the batches are
+     * forked and joined, so that a call from a pool worker (e.g. in a parallel stream) helps run them rather than
+     * blocking; otherwise, a batch that the executor rejects is run by the calling thread.
+     * <p>The roots are read concurrently, so must not be modified during the select. Queries using {@code :matchText}
+     * modify the DOM, and so must not be run in parallel. Queries reading text (e.g. {@code :contains}) don't use a
+     * document's {@link org.jsoup.nodes.Document#cacheText(boolean) text cache}, which is written as it is read.</p>
+     *
+     * @param query CSS selector
+     * @param roots root elements to descend into
+     * @param executor the executor to run the batches on
+     * @return matching elements, in the order of the roots (and then document order), deduplicated; empty if none
+     * @throws Selector.SelectorParseException (unchecked) on an invalid CSS query.
+     * @since 1.15.2
+     */
+    public static Elements selectAll(String query, Collection<Element> roots, Executor executor) {
+        Validate.notEmpty(query);
+        return selectAll(QueryParser.parse(query), roots, executor);
+    }
+
+    /**
+     * Find elements matching the query, across many roots in parallel, using the common {@link ForkJoinPool}.
+     *
+     * @param query CSS selector
+     * @param roots root elements to descend into
+     * @return matching elements, in the order of the roots (and then document order), deduplicated; empty if none
+     * @throws Selector.SelectorParseException (unchecked) on an invalid CSS query.
+     * @see #selectAll(String, Collection, Executor)
+     * @since 1.15.2
+     */
+    public static Elements selectAll(String query, Collection<Element> roots) {
+        return selectAll(query, roots, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Find elements matching the evaluator, across many roots in parallel, using the common {@link ForkJoinPool}.
+     *
+     * @param evaluator CSS selector
+     * @param roots root elements to descend into
+     * @return matching elements, in the order of the roots (and then document order), deduplicated; empty if none
+     * @see #selectAll(String, Collection, Executor)
+     * @since 1.15.2
+     */
+    public static Elements selectAll(Evaluator evaluator, Collection<Element> roots) {
+        return selectAll(evaluator, roots, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Find elements matching the evaluator, across many roots in parallel.
+     *
+     * @param evaluator CSS selector
+     * @param roots root elements to descend into
+     * @param executor the executor to run the batches on
+     * @return matching elements, in the order of the roots (and then document order), deduplicated; empty if none
+     * @see #selectAll(String, Collection, Executor)
+     * @since 1.15.2
+     */
+    public static Elements selectAll(final Evaluator evaluator, Collection<Element> roots, Executor executor) {
+        Validate.notNull(evaluator);
+        Validate.notNull(roots);
+        Validate.notNull(executor);
+
+        Element[] rootArray = roots.toArray(new Element[0]);
+        Validate.noNullElements(rootArray);
+        if (isRootMonotone(evaluator)) {
+            @Nullable List<Element> outermost = outermostRoots(roots);
+            if (outermost != null && outermost.size() < rootArray.length)
+                rootArray = outermost.toArray(new Element[0]);
+        }
+        final Element[] batchRoots = rootArray;
+        final int size = batchRoots.length;
+        final Elements[] results = new Elements[size]; // one per root, so that the merge is in root order
+        final int batches = Math.min(size, Runtime.getRuntime().availableProcessors() * 4);
+        if (batches <= 1) {
+            collectBatch(evaluator, batchRoots, results, 0, size);
+            return merge(results);
+        }
+
+        if (executor instanceof ForkJoinPool) { // fork and join, so a pool worker calling this steals work rather than blocks
+            CollectTask task = new CollectTask(evaluator, batchRoots, results, 0, size, Math.max(1, size / batches));
+            Thread thread = Thread.currentThread();
+            if (thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == executor)
+                task.invoke(); // run from a worker of this pool; forks onto its queue
+            else
+                ((ForkJoinPool) executor).invoke(task);
+            return merge(results);
+        }
+
+        final CountDownLatch remaining = new CountDownLatch(batches - 1);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int i = 1; i < batches; i++) {
+            final int start = (int) ((long) i * size / batches);
+            final int end = (int) ((long) (i + 1) * size / batches);
+            Runnable batch = () -> {
+                try {
+                    collectBatch(evaluator, batchRoots, results, start, end);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    remaining.countDown();
+                }
+            };
+            try {
+                executor.execute(batch);
+            } catch (RejectedExecutionException e) {
+                batch.run(); // the calling thread works a rejected batch, so that every batch is counted down
+            }
+        }
+        collectBatch(evaluator, batchRoots, results, 0, size / batches); // the calling thread works the first batch
+
+        try {
+            remaining.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the select to complete", e);
+        }
+
+        Throwable e = failure.get();
+        if (e instanceof RuntimeException) throw (RuntimeException) e;
+        if (e instanceof Error) throw (Error) e;
+        return merge(results);
+    }
+
+    /** Collects a range of roots, splitting it in two and forking until it is within the batch size. */
+    private static final class CollectTask extends RecursiveAction {
+        private final Evaluator evaluator;
+        private final Element[] roots;
+        private final Elements[] results;
+        private final int start, end, batchSize;
+
+        CollectTask(Evaluator evaluator, Element[] roots, Elements[] results, int start, int end, int batchSize) {
+            this.evaluator = evaluator;
+            this.roots = roots;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= batchSize) {
+                collectBatch(evaluator, roots, results, start, end);
+            } else {
+                int mid = (start + end) >>> 1;
+                invokeAll(new CollectTask(evaluator, roots, results, start, mid, batchSize),
+                    new CollectTask(evaluator, roots, results, mid, end, batchSize));
+            }
+        }
+    }
+
+    private static void collectBatch(Evaluator evaluator, Element[] roots, Elements[] results, int start, int end) {
+        for (int i = start; i < end; i++) {
+            results[i] = Collector.collect(evaluator, roots[i]);
+        }
+    }
+
+    // merges the per root results, deduplicating by identity (as roots may be nested)
+    private static Elements merge(Elements[] results) {
+        Elements elements = new Elements();
+        IdentityHashMap<Element, Boolean> seenElements = new IdentityHashMap<>();
+        for (Elements found : results) {
+            for (Element el : found) {
+                if (seenElements.put(el, Boolean.TRUE) == null) {
+                    elements.add(el);
+                }
+            }
+        }
+        return elements;
+    }
+
+    /**
+     Tests if the evaluator's matches from a root include all of its matches from any root nested within that root. If
+     so, selecting from nested roots can skip the inner roots. That holds when the evaluator ignores the root, or only
+     uses it to bound an ancestor or sibling search (which a wider root just extends). It does not hold for e.g.
+     {@code :root}, or a {@code > child} query, or a {@code :not()} of an ancestor search.
+     */
+    static boolean isRootMonotone(Evaluator eval) {
+        if (isRootIndependent(eval))
+            return true;
+        if (eval instanceof CombiningEvaluator) {
+            for (Evaluator sub : ((CombiningEvaluator) eval).evaluators) {
+                if (!isRootMonotone(sub))
+                    return false;
+            }
+            return true;
+        }
+        if (eval instanceof StructuralEvaluator.Parent || eval instanceof StructuralEvaluator.ImmediateParent
+            || eval instanceof StructuralEvaluator.PreviousSibling || eval instanceof StructuralEvaluator.ImmediatePreviousSibling)
+            return isRootMonotone(((StructuralEvaluator) eval).evaluator);
+        return false;
+    }
+
+    // evaluators whose match does not depend on the root
+    private static boolean isRootIndependent(Evaluator eval) {
+        if (eval instanceof CombiningEvaluator) {
+            for (Evaluator sub : ((CombiningEvaluator) eval).evaluators) {
+                if (!isRootIndependent(sub))
+                    return false;
+            }
+            return true;
+        }
+        if (eval instanceof StructuralEvaluator.Not)
+            return isRootIndependent(((StructuralEvaluator) eval).evaluator);
+        return eval instanceof StructuralEvaluator.Has // matches below the element, using it as the root
+            || eval instanceof Evaluator.Tag || eval instanceof Evaluator.TagEndsWith
+            || eval instanceof Evaluator.Id || eval instanceof Evaluator.Class
+            || eval instanceof Evaluator.Attribute || eval instanceof Evaluator.AttributeStarting
+            || eval instanceof Evaluator.AttributeKeyPair || eval instanceof Evaluator.AttributeWithValueMatching
+            || eval instanceof Evaluator.AllElements
+            || eval instanceof Evaluator.ContainsText || eval instanceof Evaluator.ContainsOwnText
+            || eval instanceof Evaluator.ContainsWholeText || eval instanceof Evaluator.ContainsWholeOwnText
+            || eval instanceof Evaluator.ContainsData
+            || eval instanceof Evaluator.Matches || eval instanceof Evaluator.MatchesOwn
+            || eval instanceof Evaluator.MatchesWholeText || eval instanceof Evaluator.MatchesWholeOwnText;
+    }
+
+    /**
+     Finds the roots that are not nested within another of the roots, in their original order, and without duplicates;
+     if each nested root comes after the roots it is nested within. Then a select from just those roots finds the same
+     elements in the same order as a select from each root: a nested root's matches were already found from an
+     earlier root. If a nested root comes before a root that it is nested within, its matches would be found first, so
+     the roots can't be collapsed.
+     <p>Each root's ancestors are walked until reaching a root, or an ancestor whose nearest root is already known, so
+     that this is linear in the number of distinct ancestors.</p>
+     @return the outermost roots, or null if a root is nested within a later root
+     */
+    static @Nullable List<Element> outermostRoots(Iterable<Element> roots) {
+        IdentityHashMap<Element, Integer> rootIndex = new IdentityHashMap<>(); // the position each root is first seen
+        int index = 0;
+        for (Element root : roots) {
+            if (!rootIndex.containsKey(root))
+                rootIndex.put(root, index);
+            index++;
+        }
+
+        List<Element> outermost = new ArrayList<>(rootIndex.size());
+        IdentityHashMap<Element, Element> nearestRoot = new IdentityHashMap<>(); // non-root ancestors -> nearest root, or null
+        ArrayList<Element> path = new ArrayList<>();
+        index = 0;
+        for (Element root : roots) {
+            int position = index++;
+            if (rootIndex.get(root) != position)
+                continue; // a duplicate, which a select from each root dedupes
+
+            Element nearest = null;
+            path.clear();
+            for (Element parent = root.parent(); parent != null; parent = parent.parent()) {
+                if (rootIndex.containsKey(parent)) {
+                    nearest = parent;
+                    break;
+                }
+                if (nearestRoot.containsKey(parent)) {
+                    nearest = nearestRoot.get(parent);
+                    break;
+                }
+                path.add(parent);
+            }
+            for (Element el : path) {
+                nearestRoot.put(el, nearest);
+            }
+            if (nearest == null)
+                outermost.add(root);
+            else if (rootIndex.get(nearest) > position)
+                return null; // nested within a later root (and by induction, each nearest root is within earlier ones)
+        }
+        return outermost;
+    }
+
     // exclude set. package open so that Elements can implement .not() selector.
     static Elements filterOut(Collection<Element> elements, Collection<Element> outs) {
+        IdentityHashMap<Element, Boolean> outSet = new IdentityHashMap<>(outs.size()); // elements are equal by identity
+        for (Element out : outs) {
+            outSet.put(out, Boolean.TRUE);
+        }
         Elements output = new Elements();
         for (Element el : elements) {
-            boolean found = false;
-            for (Element out : outs) {
-                if (el.equals(out)) {
-                    found = true;
-                    break;
-                }
-            }
-            if (!found)
+            if (!outSet.containsKey(el))
                 output.add(el);
         }
         return output;
@@ -165,6 +471,48 @@ public class Selector {
         return Collector.findFirst(QueryParser.parse(cssQuery), root);
     }
 
+    /**
+     * Compile a CSS query into a reusable {@link Evaluator}. The Evaluator is immutable and thread-safe, so it may be
+     * held and used for any number of selects (e.g. via {@link Element#select(Evaluator)}), without re-parsing the query.
+     * <p>Compiled queries are held in a bounded, least-recently-used cache, which is also used by the string query
+     * methods (e.g. {@link Element#select(String)}), so repeated queries are only parsed once.</p>
+     *
+     * @param query CSS selector
+     * @return the compiled Evaluator
+     * @throws Selector.SelectorParseException (unchecked) on an invalid CSS query.
+     * @since 1.15.2
+     */
+    public static Evaluator compile(String query) {
+        Validate.notEmpty(query);
+        return QueryParser.parse(query);
+    }
+
+    /**
+     * Get the number of query lookups that were found in the compiled query cache.
+     * @return the count of cache hits since startup, or the last {@link #clearCache()}
+     * @since 1.15.2
+     */
+    public static long cacheHits() {
+        return QueryParser.cache.hits();
+    }
+
+    /**
+     * Get the number of query lookups that were not found in the compiled query cache, and so were parsed.
+     * @return the count of cache misses since startup, or the last {@link #clearCache()}
+     * @since 1.15.2
+     */
+    public static long cacheMisses() {
+        return QueryParser.cache.misses();
+    }
+
+    /**
+     * Clears the compiled query cache, and resets its hit and miss counts.
+     * @since 1.15.2
+     */
+    public static void clearCache() {
+        QueryParser.cache.clear();
+    }
+
     public static class SelectorParseException extends IllegalStateException {
         public SelectorParseException(String msg) {
             super(msg);
@@ -14,19 +14,30 @@ abstract class StructuralEvaluator extends Evaluator {
         public boolean matches(Element root, Element element) {
             return root == element;
         }
+
+        @Override
+        protected int cost() {
+            return 1;
+        }
     }
 
     static class Has extends StructuralEvaluator {
-        final Collector.FirstFinder finder;
+        // the finder holds state during a find, so is per thread, as (cached) evaluators may be shared between threads
+        final ThreadLocal<Collector.FirstFinder> threadFinder;
 
-        public Has(Evaluator evaluator) {
+        public Has(final Evaluator evaluator) {
             this.evaluator = evaluator;
-            finder = new Collector.FirstFinder(evaluator);
+            threadFinder = new ThreadLocal<Collector.FirstFinder>() {
+                @Override protected Collector.FirstFinder initialValue() {
+                    return new Collector.FirstFinder(evaluator);
+                }
+            };
         }
 
         @Override
         public boolean matches(Element root, Element element) {
             // for :has, we only want to match children (or below), not the input element. And we want to minimize GCs
+            final Collector.FirstFinder finder = threadFinder.get();
             for (int i = 0; i < element.childNodeSize(); i++) {
                 Node node = element.childNode(i);
                 if (node instanceof Element) {
@@ -42,6 +53,11 @@ abstract class StructuralEvaluator extends Evaluator {
         public String toString() {
             return String.format(":has(%s)", evaluator);
         }
+
+        @Override
+        protected int cost() {
+            return 10 * evaluator.cost(); // searches the subtree
+        }
     }
 
     static class Not extends StructuralEvaluator {
@@ -58,6 +74,11 @@ abstract class StructuralEvaluator extends Evaluator {
         public String toString() {
             return String.format(":not(%s)", evaluator);
         }
+
+        @Override
+        protected int cost() {
+            return 2 + evaluator.cost();
+        }
     }
 
     static class Parent extends StructuralEvaluator {
@@ -85,6 +106,11 @@ abstract class StructuralEvaluator extends Evaluator {
         public String toString() {
             return String.format("%s ", evaluator);
         }
+
+        @Override
+        protected int cost() {
+            return 2 * evaluator.cost(); // tests each ancestor
+        }
     }
 
     static class ImmediateParent extends StructuralEvaluator {
@@ -105,6 +131,11 @@ abstract class StructuralEvaluator extends Evaluator {
         public String toString() {
             return String.format("%s > ", evaluator);
         }
+
+        @Override
+        protected int cost() {
+            return 1 + evaluator.cost();
+        }
     }
 
     static class PreviousSibling extends StructuralEvaluator {
@@ -132,6 +163,11 @@ abstract class StructuralEvaluator extends Evaluator {
         public String toString() {
             return String.format("%s ~ ", evaluator);
         }
+
+        @Override
+        protected int cost() {
+            return 2 * evaluator.cost(); // tests each previous sibling
+        }
     }
 
     static class ImmediatePreviousSibling extends StructuralEvaluator {
@@ -152,5 +188,10 @@ abstract class StructuralEvaluator extends Evaluator {
         public String toString() {
             return String.format("%s + ", evaluator);
         }
+
+        @Override
+        protected int cost() {
+            return 1 + evaluator.cost();
+        }
     }
 }
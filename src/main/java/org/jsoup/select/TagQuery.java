@@ -0,0 +1,339 @@
+package org.jsoup.select;
+
+import org.jsoup.internal.AttributeMatch;
+import org.jsoup.nodes.Attributes;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ A CSS query compiled to be matched against a start tag, by its tag name and attributes and those of its open
+ ancestors, without an {@link org.jsoup.nodes.Element}. Used by {@link org.jsoup.parser.TagScanner} to match tags as
+ they are read.
+ <p>Supports the subset of the {@link Selector} syntax that a start tag can answer: the tag ({@code a}, {@code *},
+ {@code *|rect}), id, class, and attribute ({@code [href]}, {@code [^data-]}, {@code [rel=next]}, {@code [src$=.png]},
+ {@code [href~=regex]}, etc.) selectors, the descendant and child combinators ({@code div.content a}, {@code ul > li}),
+ and groups ({@code a[href], link[href]}). Queries using structural pseudo selectors, sibling combinators, or text
+ selectors are rejected, as they depend on content that has not been read.</p>
+ <p>A TagQuery is immutable and thread-safe.</p>
+ @since 1.15.2
+ */
+public final class TagQuery {
+    /**
+     The open ancestors of the tag being matched, nearest first: index {@code 0} is its parent, and index
+     {@code size() - 1} the outermost open element.
+     */
+    public interface Ancestors {
+        /** @return the number of ancestors */
+        int size();
+
+        /**
+         @param index the ancestor index, where 0 is the parent
+         @return the normal (lower case) tag name of the ancestor
+         */
+        String normalName(int index);
+
+        /**
+         @param index the ancestor index, where 0 is the parent
+         @return the attributes of the ancestor, or null if it has none
+         */
+        @Nullable Attributes attributes(int index);
+    }
+
+    private final String query;
+    private final Matcher matcher;
+
+    private TagQuery(String query, Matcher matcher) {
+        this.query = query;
+        this.matcher = matcher;
+    }
+
+    /**
+     Compiles a CSS query for matching against start tags.
+     @param query the CSS query
+     @return the compiled query
+     @throws Selector.SelectorParseException if the query is invalid, or uses selectors that can't be matched against
+     a start tag
+     */
+    public static TagQuery compile(String query) {
+        Evaluator eval = QueryParser.parse(query);
+        return new TagQuery(query, matcher(eval, query));
+    }
+
+    /**
+     Tests if a start tag matches this query.
+     @param normalName the normal (lower case) tag name
+     @param attributes the tag's attributes, or null if it has none
+     @param ancestors the tag's open ancestors
+     @return true if the tag matches
+     */
+    public boolean matches(String normalName, @Nullable Attributes attributes, Ancestors ancestors) {
+        return matcher.matches(normalName, attributes, ancestors, -1);
+    }
+
+    @Override
+    public String toString() {
+        return query;
+    }
+
+    private static Matcher matcher(Evaluator eval, String query) {
+        if (eval instanceof CombiningEvaluator) {
+            List<Evaluator> evals = ((CombiningEvaluator) eval).sortedEvaluators; // cheapest first
+            Matcher[] matchers = new Matcher[evals.size()];
+            for (int i = 0; i < matchers.length; i++)
+                matchers[i] = matcher(evals.get(i), query);
+            return eval instanceof CombiningEvaluator.And ? new And(matchers) : new Or(matchers);
+        } else if (eval instanceof StructuralEvaluator.Parent) {
+            return new Parent(matcher(((StructuralEvaluator) eval).evaluator, query));
+        } else if (eval instanceof StructuralEvaluator.ImmediateParent) {
+            return new ImmediateParent(matcher(((StructuralEvaluator) eval).evaluator, query));
+        } else if (eval instanceof Evaluator.AllElements) {
+            return new Any();
+        } else if (eval instanceof Evaluator.Tag) {
+            return new TagName(((Evaluator.Tag) eval).tagName);
+        } else if (eval instanceof Evaluator.TagEndsWith) {
+            return new TagNameEnding(((Evaluator.TagEndsWith) eval).tagName);
+        } else if (eval instanceof Evaluator.Id) {
+            return new IdName(((Evaluator.Id) eval).id);
+        } else if (eval instanceof Evaluator.Class) {
+            return new ClassName(((Evaluator.Class) eval).className);
+        } else if (eval instanceof Evaluator.Attribute) {
+            return new AttrPresent(attributeKey(((Evaluator.Attribute) eval).key, query));
+        } else if (eval instanceof Evaluator.AttributeStarting) {
+            return new AttrKeyStarting(((Evaluator.AttributeStarting) eval).keyPrefix);
+        } else if (eval instanceof Evaluator.AttributeWithValueMatching) {
+            Evaluator.AttributeWithValueMatching matching = (Evaluator.AttributeWithValueMatching) eval;
+            return new AttrMatching(attributeKey(matching.key, query), matching.pattern);
+        } else if (eval instanceof Evaluator.AttributeKeyPair) {
+            Evaluator.AttributeKeyPair pair = (Evaluator.AttributeKeyPair) eval;
+            String key = attributeKey(pair.key, query);
+            if (eval instanceof Evaluator.AttributeWithValue)
+                return new AttrValue(key, pair.value, AttrValue.Equals);
+            else if (eval instanceof Evaluator.AttributeWithValueNot)
+                return new AttrValue(key, pair.value, AttrValue.NotEquals);
+            else if (eval instanceof Evaluator.AttributeWithValueStarting)
+                return new AttrValue(key, pair.value, AttrValue.Starting);
+            else if (eval instanceof Evaluator.AttributeWithValueEnding)
+                return new AttrValue(key, pair.value, AttrValue.Ending);
+            else if (eval instanceof Evaluator.AttributeWithValueContaining)
+                return new AttrValue(key, pair.value, AttrValue.Containing);
+        }
+        throw new Selector.SelectorParseException("Could not match '%s' against a start tag, in query '%s'", eval, query);
+    }
+
+    private static String attributeKey(String key, String query) {
+        if (key.startsWith("abs:"))
+            throw new Selector.SelectorParseException("Could not resolve '%s' against a start tag, in query '%s'", key, query);
+        return key;
+    }
+
+    /**
+     Matches the element at a position: the tag being matched when {@code pos} is -1, otherwise the ancestor at that
+     index.
+     */
+    private abstract static class Matcher {
+        abstract boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos);
+
+        static String name(String name, Ancestors ancestors, int pos) {
+            return pos < 0 ? name : ancestors.normalName(pos);
+        }
+
+        static @Nullable Attributes attrs(@Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            return pos < 0 ? attrs : ancestors.attributes(pos);
+        }
+    }
+
+    private static final class And extends Matcher {
+        private final Matcher[] matchers;
+
+        And(Matcher[] matchers) {
+            this.matchers = matchers;
+        }
+
+        @Override boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            for (Matcher matcher : matchers) {
+                if (!matcher.matches(name, attrs, ancestors, pos))
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    private static final class Or extends Matcher {
+        private final Matcher[] matchers;
+
+        Or(Matcher[] matchers) {
+            this.matchers = matchers;
+        }
+
+        @Override boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            for (Matcher matcher : matchers) {
+                if (matcher.matches(name, attrs, ancestors, pos))
+                    return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class Parent extends Matcher {
+        private final Matcher ancestor;
+
+        Parent(Matcher ancestor) {
+            this.ancestor = ancestor;
+        }
+
+        @Override boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            int size = ancestors.size();
+            for (int i = pos + 1; i < size; i++) {
+                if (ancestor.matches(name, attrs, ancestors, i))
+                    return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class ImmediateParent extends Matcher {
+        private final Matcher parent;
+
+        ImmediateParent(Matcher parent) {
+            this.parent = parent;
+        }
+
+        @Override boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            return pos + 1 < ancestors.size() && parent.matches(name, attrs, ancestors, pos + 1);
+        }
+    }
+
+    private static final class Any extends Matcher {
+        @Override boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            return true;
+        }
+    }
+
+    private static final class TagName extends Matcher {
+        private final String tagName;
+
+        TagName(String tagName) {
+            this.tagName = tagName;
+        }
+
+        @Override boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            return name(name, ancestors, pos).equals(tagName);
+        }
+    }
+
+    private static final class TagNameEnding extends Matcher {
+        private final String suffix;
+
+        TagNameEnding(String suffix) {
+            this.suffix = suffix;
+        }
+
+        @Override boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            return name(name, ancestors, pos).endsWith(suffix);
+        }
+    }
+
+    private static final class IdName extends Matcher {
+        private final String id;
+
+        IdName(String id) {
+            this.id = id;
+        }
+
+        @Override boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            Attributes attributes = attrs(attrs, ancestors, pos);
+            return attributes != null && id.equals(attributes.getIgnoreCase("id"));
+        }
+    }
+
+    private static final class ClassName extends Matcher {
+        private final String className;
+
+        ClassName(String className) {
+            this.className = className;
+        }
+
+        @Override boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            Attributes attributes = attrs(attrs, ancestors, pos);
+            return attributes != null && AttributeMatch.hasClass(attributes.getIgnoreCase("class"), className);
+        }
+    }
+
+    private static final class AttrPresent extends Matcher {
+        private final String key;
+
+        AttrPresent(String key) {
+            this.key = key;
+        }
+
+        @Override boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            Attributes attributes = attrs(attrs, ancestors, pos);
+            return attributes != null && attributes.hasKeyIgnoreCase(key);
+        }
+    }
+
+    private static final class AttrKeyStarting extends Matcher {
+        private final String keyPrefix; // lower case
+
+        AttrKeyStarting(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        @Override boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            Attributes attributes = attrs(attrs, ancestors, pos);
+            return attributes != null && AttributeMatch.hasKeyStarting(attributes, keyPrefix);
+        }
+    }
+
+    /** As the Evaluator.AttributeKeyPair evaluators, by their op; compared with the same AttributeMatch tests. */
+    private static final class AttrValue extends Matcher {
+        static final int Equals = 0, NotEquals = 1, Starting = 2, Ending = 3, Containing = 4;
+
+        private final String key;
+        private final String value; // lower case
+        private final int op;
+
+        AttrValue(String key, String value, int op) {
+            this.key = key;
+            this.value = value;
+            this.op = op;
+        }
+
+        @Override boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            Attributes attributes = attrs(attrs, ancestors, pos);
+            if (op == NotEquals)
+                return AttributeMatch.valueNotEquals(attributes != null ? attributes.getIgnoreCase(key) : "", value);
+            if (attributes == null || !attributes.hasKeyIgnoreCase(key))
+                return false;
+            String actual = attributes.getIgnoreCase(key);
+            switch (op) {
+                case Equals:
+                    return AttributeMatch.valueEquals(actual, value);
+                case Starting:
+                    return AttributeMatch.valueStarting(actual, value);
+                case Ending:
+                    return AttributeMatch.valueEnding(actual, value);
+                default:
+                    return AttributeMatch.valueContaining(actual, value);
+            }
+        }
+    }
+
+    private static final class AttrMatching extends Matcher {
+        private final String key;
+        private final Pattern pattern;
+
+        AttrMatching(String key, Pattern pattern) {
+            this.key = key;
+            this.pattern = pattern;
+        }
+
+        @Override boolean matches(String name, @Nullable Attributes attrs, Ancestors ancestors, int pos) {
+            Attributes attributes = attrs(attrs, ancestors, pos);
+            return attributes != null && attributes.hasKeyIgnoreCase(key)
+                && AttributeMatch.valueMatching(attributes.getIgnoreCase(key), pattern);
+        }
+    }
+}
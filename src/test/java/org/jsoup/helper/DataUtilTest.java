@@ -1,13 +1,22 @@
 package org.jsoup.helper;
 
 import org.jsoup.Jsoup;
+import org.jsoup.TextUtil;
 import org.jsoup.nodes.Document;
 import org.jsoup.parser.Parser;
 import org.junit.jupiter.api.Test;
 
 import java.io.*;
+import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.jsoup.integration.ParseTest.getFile;
 import static org.junit.jupiter.api.Assertions.*;
@@ -232,4 +241,93 @@ public class DataUtilTest {
         assertEquals("This is not gzipped", doc.title());
         assertEquals("And should still be readable.", doc.selectFirst("p").text());
     }
+
+    @Test
+    public void loadsMappedPath() throws IOException {
+        String[] files = {"/bomtests/bom_utf16be.html", "/bomtests/bom_utf16le.html", "/bomtests/bom_utf32be.html",
+            "/bomtests/bom_utf32le.html", "/bomtests/bom_utf8.html", "/htmltests/meta-charset-1.html",
+            "/htmltests/xml-charset.xml", "/htmltests/large.html", "/htmltests/gzip.html.gz"};
+        for (String file : files) {
+            File in = getFile(file);
+            Document streamed = Jsoup.parse(in, null, "http://example.com");
+            Document mapped = DataUtil.load(in.toPath(), null, "http://example.com");
+            assertEquals(streamed.outerHtml(), mapped.outerHtml(), file);
+            assertEquals(streamed.charset(), mapped.charset(), file);
+        }
+    }
+
+    @Test
+    public void loadsPathOnOtherFileSystem() throws IOException {
+        File zip = File.createTempFile("jsoup", ".zip");
+        assertTrue(zip.delete()); // created by the zip file system
+        Map<String, String> env = new HashMap<>();
+        env.put("create", "true");
+        try (FileSystem fs = FileSystems.newFileSystem(URI.create("jar:" + zip.toURI()), env)) {
+            String[] files = {"/htmltests/meta-charset-1.html", "/htmltests/large.html", "/htmltests/gzip.html.gz"};
+            for (String file : files) {
+                File in = getFile(file);
+                Path zipped = fs.getPath(in.getName());
+                Files.copy(in.toPath(), zipped);
+                Document streamed = Jsoup.parse(in, null, "http://example.com");
+                Document loaded = DataUtil.load(zipped, null, "http://example.com");
+                assertEquals(streamed.outerHtml(), loaded.outerHtml(), file);
+                assertEquals(streamed.charset(), loaded.charset(), file);
+            }
+        } finally {
+            zip.delete();
+        }
+    }
+
+    @Test
+    public void decodesByteBufferAsParsed() throws IOException {
+        StringBuilder sb = new StringBuilder("<p>");
+        for (int i = 0; i < 20000; i++) // well past the read buffer, so multi-byte chars span reads
+            sb.append("한국어 \uD83D\uDE00 ");
+        byte[] content = sb.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = Arrays.copyOf(content, content.length + 2);
+        bytes[content.length] = (byte) 0xFF; // malformed
+        bytes[content.length + 1] = (byte) 0xE2; // truncated
+        String expected = new String(bytes, StandardCharsets.UTF_8); // with the malformed input replaced
+
+        Document doc = Jsoup.parse(ByteBuffer.wrap(bytes), "UTF-8", "");
+        assertEquals(Jsoup.parse(expected).outerHtml(), doc.outerHtml());
+        assertTrue(doc.text().endsWith("\uFFFD\uFFFD"));
+    }
+
+    @Test
+    public void parsesByteBuffer() throws IOException {
+        StringBuilder html = new StringBuilder("<html><head><meta charset=euc-kr></head><body>");
+        for (int i = 0; i < 1000; i++) { // past the first read, so must be re-decoded in the found charset
+            html.append("<p>한국어 ").append(i);
+        }
+        byte[] bytes = html.toString().getBytes("euc-kr");
+
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        Document doc = Jsoup.parse(heap, null, "");
+        assertEquals("한국어 0", doc.selectFirst("p").text());
+        assertEquals(1000, doc.select("p").size());
+        assertEquals("EUC-KR", doc.charset().name());
+        assertEquals(0, heap.position()); // unchanged, so can reparse
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes);
+        direct.flip();
+        assertEquals(doc.outerHtml(), Jsoup.parse(direct, null, "").outerHtml());
+    }
+
+    @Test
+    public void parsesByteBufferWithBomAndCharset() throws IOException {
+        byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+        byte[] content = "<title>One</title><p>Two".getBytes("UTF-8");
+        ByteBuffer buffer = ByteBuffer.allocate(bom.length + content.length);
+        buffer.put(bom).put(content);
+        buffer.flip();
+
+        Document doc = Jsoup.parse(buffer, "ISO-8859-1", "", Parser.xmlParser()); // the BOM overrides the given charset
+        assertEquals("<title>One</title><p>Two</p>", TextUtil.stripNewlines(doc.html()));
+        assertEquals("UTF-8", doc.charset().name());
+
+        ByteBuffer latin = ByteBuffer.wrap("<p>Ünïcödé".getBytes("ISO-8859-1"));
+        assertEquals("Ünïcödé", Jsoup.parse(latin, "ISO-8859-1", "").text());
+    }
 }
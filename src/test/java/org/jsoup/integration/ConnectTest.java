@@ -3,6 +3,7 @@ package org.jsoup.integration;
 import org.jsoup.Connection;
 import org.jsoup.HttpStatusException;
 import org.jsoup.Jsoup;
+import org.jsoup.helper.DataUtil;
 import org.jsoup.helper.W3CDom;
 import org.jsoup.integration.servlets.*;
 import org.jsoup.internal.StringUtil;
@@ -18,11 +19,21 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.jsoup.helper.HttpConnection.CONTENT_TYPE;
 import static org.jsoup.helper.HttpConnection.MULTIPART_FORM_DATA;
@@ -463,6 +474,100 @@ public class ConnectTest {
         assertEquals("there", ihVal("Hello", doc));
     }
 
+    @Test public void stopAfterReadsOnlyPartOfBody() throws IOException {
+        Connection con = Jsoup.connect(FileServlet.urlTo("/htmltests/large.html"))
+            .parser(Parser.htmlParser().stopAfter("p"));
+        Document doc = con.get();
+
+        assertEquals("Large HTML", doc.title());
+        assertEquals(1, doc.select("p").size());
+        assertTrue(doc.selectFirst("p").text().startsWith("Lorem ipsum"));
+
+        // count the body bytes that the parse reads: it stops once the first p is closed, so reads just a few buffers
+        Connection.Response res = Jsoup.connect(FileServlet.urlTo("/htmltests/large.html")).execute();
+        TrackingInputStream body = new TrackingInputStream(res.bodyStream());
+        Document partial = DataUtil.load(body, null, res.url().toExternalForm(), Parser.htmlParser().stopAfter("p"));
+        assertEquals(doc.html(), partial.html());
+        assertTrue(body.closed);
+
+        long size = ParseTest.getFile("/htmltests/large.html").length(); // 280,735 bytes
+        assertTrue(body.read < size / 4, "Read " + body.read + " of " + size + " bytes");
+    }
+
+    static class TrackingInputStream extends FilterInputStream {
+        long read = 0;
+        boolean closed = false;
+
+        TrackingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) read++;
+            return b;
+        }
+
+        @Override public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) read += count;
+            return count;
+        }
+
+        @Override public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    @Test public void getAsyncFollowsRedirectsAndKeepsCookies() throws Exception {
+        Connection session = Jsoup.newSession();
+        CompletableFuture<Document> future = session.newRequest()
+            .url(RedirectServlet.Url)
+            .data(RedirectServlet.SetCookiesParam, "true")
+            .data(RedirectServlet.LocationParam, echoUrl)
+            .getAsync();
+
+        Document doc = future.get(10, TimeUnit.SECONDS);
+        assertEquals(echoUrl, doc.location());
+
+        // cookies set on the redirect are in the session, and sent on the next request
+        Document next = session.newRequest().url(echoUrl).getAsync().get(10, TimeUnit.SECONDS);
+        assertEquals("token=asdfg123; uid=jhy", ihVal("Cookie", next));
+    }
+
+    @Test public void executeAsyncCompletesExceptionallyOnError() throws Exception {
+        CompletableFuture<Connection.Response> future = Jsoup.connect(FileServlet.urlTo("/htmltests/not-found.html"))
+            .executeAsync();
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertTrue(ex.getCause() instanceof HttpStatusException);
+        assertEquals(404, ((HttpStatusException) ex.getCause()).getStatusCode());
+    }
+
+    @Test public void asyncRequestsUseProvidedExecutor() throws Exception {
+        final AtomicInteger tasks = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Executor executor = runnable -> {
+                tasks.incrementAndGet();
+                pool.execute(runnable);
+            };
+            Connection session = Jsoup.newSession().executor(executor);
+
+            List<CompletableFuture<Document>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(session.newRequest().url(HelloServlet.Url).getAsync());
+            }
+            for (CompletableFuture<Document> future : futures) {
+                assertEquals("Hello, World!", future.get(10, TimeUnit.SECONDS).selectFirst("p").text());
+            }
+            assertEquals(8, tasks.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test public void getUtf8Bom() throws IOException {
         Connection con = Jsoup.connect(FileServlet.urlTo("/bomtests/bom_utf8.html"));
         Document doc = con.get();
@@ -0,0 +1,60 @@
+package org.jsoup.internal;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.TagScanner;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AttributeMatchTest {
+    @Test void hasClass() {
+        assertTrue(AttributeMatch.hasClass("One", "one"));
+        assertTrue(AttributeMatch.hasClass(" one\ttwo\n", "TWO"));
+        assertTrue(AttributeMatch.hasClass("one two", "one"));
+        assertFalse(AttributeMatch.hasClass("one two", "on"));
+        assertFalse(AttributeMatch.hasClass("onetwo", "one"));
+        assertFalse(AttributeMatch.hasClass("", "one"));
+        assertFalse(AttributeMatch.hasClass("   ", "one"));
+    }
+
+    @Test void splitsClassNames() {
+        String classAttr = "  One\ttwo  three ";
+        List<String> names = new ArrayList<>();
+        for (int start = AttributeMatch.classStart(classAttr, 0); start < classAttr.length(); ) {
+            int end = AttributeMatch.classEnd(classAttr, start);
+            names.add(classAttr.substring(start, end));
+            start = AttributeMatch.classStart(classAttr, end);
+        }
+        assertEquals("[One, two, three]", names.toString());
+    }
+
+    @Test void matchesValues() {
+        assertTrue(AttributeMatch.valueEquals(" Next ", "next"));
+        assertTrue(AttributeMatch.valueNotEquals(" next ", "next")); // not trimmed, as [key!=value]
+        assertTrue(AttributeMatch.valueStarting("Data-X", "data"));
+        assertTrue(AttributeMatch.valueEnding("IMG.PNG", ".png"));
+        assertTrue(AttributeMatch.valueContaining("a-Story-b", "story"));
+        assertTrue(AttributeMatch.valueMatching("/one/2", Pattern.compile("\\d$")));
+        assertTrue(AttributeMatch.hasKeyStarting(Jsoup.parse("<p Data-One=1>").selectFirst("p").attributes(), "data-"));
+    }
+
+    @Test void elementsAndScannedTagsMatchAlike() {
+        String html = "<p class=' Lead\tpara '>1</p><a href=' /X.PNG ' rel=Next data-Id=2>2</a><a href=/y>3</a>";
+        String query = "p.lead, p.para, a[href$=.png], a[rel=next], a[href!=/y], a[^data-], a[href~=^/y], a[href*=x.]";
+        List<String> selected = new ArrayList<>();
+        for (Element el : Jsoup.parse(html).select(query))
+            selected.add(el.normalName() + el.attributes().html());
+
+        List<String> scanned = new ArrayList<>();
+        new TagScanner()
+            .on(query, (name, attributes) -> scanned.add(name + attributes.html()))
+            .scan(html);
+        assertEquals(3, selected.size());
+        assertEquals(selected, scanned);
+    }
+}
@@ -1,8 +1,10 @@
 package org.jsoup.nodes;
 
 import org.jsoup.Jsoup;
+import org.jsoup.helper.Consumer;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -318,4 +320,42 @@ public class AttributesTest {
         assertNotEquals(one, two);
 
     }
+
+    @Test void clonesAreIndependentAfterEachChange() {
+        // the clone shares the arrays until a change, so check each kind of change in both the source and the clone
+        String html = " a=\"1\" B=\"2\" c=\"3\"";
+        List<Consumer<Attributes>> changes = Arrays.asList(
+            attrs -> attrs.put("a", "x"),
+            attrs -> attrs.put("d", true),
+            attrs -> attrs.add("a", "x"),
+            attrs -> attrs.remove("c"),
+            attrs -> attrs.removeIgnoreCase("b"),
+            attrs -> attrs.normalize(),
+            attrs -> attrs.putIgnoreCase("b", "x"),
+            attrs -> attrs.addAll(new Attributes().add("e", "5")),
+            attrs -> attrs.iterator().next().setValue("x"),
+            attrs -> attrs.iterator().next().setKey("x"),
+            attrs -> {
+                Iterator<Attribute> it = attrs.iterator();
+                it.next();
+                it.remove();
+            },
+            attrs -> attrs.dataset().put("x", "y")
+        );
+        for (Consumer<Attributes> change : changes) {
+            Attributes source = new Attributes().add("a", "1").add("B", "2").add("c", "3");
+            Attributes clone = source.clone();
+            change.accept(clone);
+            assertEquals(html, source.html());
+            assertNotEquals(html, clone.html());
+
+            source = new Attributes().add("a", "1").add("B", "2").add("c", "3");
+            clone = source.clone();
+            Attributes cloneOfClone = clone.clone();
+            change.accept(source);
+            assertEquals(html, clone.html());
+            assertEquals(html, cloneOfClone.html());
+            assertNotEquals(html, source.html());
+        }
+    }
 }
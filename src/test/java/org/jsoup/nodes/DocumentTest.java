@@ -8,12 +8,17 @@ import org.jsoup.nodes.Document.OutputSettings.Syntax;
 import org.jsoup.parser.ParseSettings;
 import org.jsoup.parser.Parser;
 import org.jsoup.select.Elements;
+import org.jsoup.select.Selector;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import java.io.*;
+import java.nio.channels.Channels;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -551,4 +556,354 @@ public class DocumentTest {
             "</html>";
         assertEquals(expected, doc.html());
     }
+
+    @Test void indexedLookups() {
+        Document doc = Jsoup.parse("<div id=a class='One two'><p class=one>One</p><p id=a class='ONE one'>Two</p></div>");
+        doc.indexed(true);
+        assertTrue(doc.indexed());
+
+        assertEquals("div", doc.getElementById("a").tagName());
+        assertEquals(2, doc.getElementsById("a").size());
+        assertNull(doc.getElementById("b"));
+        assertEquals(3, doc.getElementsByClass("one").size());
+        assertEquals(3, doc.getElementsByClass("ONE").size());
+        assertEquals(1, doc.getElementsByClass("Two").size());
+        assertEquals(2, doc.getElementsByTag("P").size());
+
+        // selects from the document use the index, and must match the unindexed results
+        Document unindexed = doc.clone().indexed(false);
+        String[] queries = {"#a", "p", ".one", "p.one", "p#a", "div > p.one", "div.two p:contains(Two)", ".nope", "p, div"};
+        for (String query : queries) {
+            assertEquals(unindexed.select(query).outerHtml(), doc.select(query).outerHtml(), query);
+            Element first = unindexed.selectFirst(query);
+            assertEquals(first != null ? first.outerHtml() : null, doc.selectFirst(query) != null ? doc.selectFirst(query).outerHtml() : null, query);
+        }
+
+        Elements found = doc.getElementsByTag("p");
+        found.clear(); // returned lists are independent of the index
+        assertEquals(2, doc.getElementsByTag("p").size());
+    }
+
+    @Test void indexInvalidatedByStructureChanges() {
+        Document doc = Jsoup.parse("<div id=a><p>One</p></div>").indexed(true);
+        Element div = doc.getElementById("a");
+        assertEquals(1, doc.select("p").size());
+
+        div.appendElement("p").text("Two");
+        assertEquals(2, doc.select("p").size());
+
+        Element span = new Element("span").attr("id", "s");
+        span.appendElement("p").text("Three");
+        div.childNode(0).replaceWith(span);
+        assertEquals("Three", doc.getElementById("s").text());
+        assertEquals("Three Two", doc.select("p").text());
+
+        span.remove();
+        assertNull(doc.getElementById("s"));
+        assertEquals("Two", doc.select("p").text());
+
+        div.child(0).tagName("b");
+        assertEquals(0, doc.select("p").size());
+        assertEquals(1, doc.getElementsByTag("b").size());
+
+        div.empty();
+        assertEquals(0, doc.select("b").size());
+    }
+
+    @Test void indexInvalidatedByAttributeChanges() {
+        Document doc = Jsoup.parse("<div id=a class=foo><p>One</p><span>Two</span></div>").indexed(true);
+        Element div = doc.getElementById("a");
+        Element p = doc.selectFirst("p");
+        Element span = doc.selectFirst("span");
+        assertEquals(1, doc.getElementsByClass("foo").size());
+
+        p.attr("id", "b"); // p had no attributes when indexed
+        assertSame(p, doc.getElementById("b"));
+
+        div.attributes().put("id", "c");
+        assertNull(doc.getElementById("a"));
+        assertSame(div, doc.getElementById("c"));
+
+        span.addClass("foo");
+        assertEquals(2, doc.select(".foo").size());
+
+        div.attributes().remove("class");
+        assertEquals(1, doc.select(".foo").size());
+
+        for (Attribute attribute : p.attributes()) {
+            attribute.setValue("d");
+        }
+        assertSame(p, doc.getElementById("d"));
+        assertNull(doc.getElementById("b"));
+
+        div.attr("title", "no effect");
+        assertSame(div, doc.getElementById("c"));
+    }
+
+    @Test void clonedIndexedDocumentIsIndependent() {
+        Document doc = Jsoup.parse("<p id=a>One</p>").indexed(true);
+        assertNotNull(doc.getElementById("a"));
+
+        Document clone = doc.clone();
+        assertTrue(clone.indexed());
+        Element cloneP = clone.getElementById("a");
+        assertNotSame(doc.getElementById("a"), cloneP);
+
+        cloneP.attr("id", "b");
+        assertSame(cloneP, clone.getElementById("b"));
+        assertNotNull(doc.getElementById("a"));
+        assertNull(doc.getElementById("b"));
+    }
+
+    @Test void cachedTextMatchesText() {
+        String html = "<p>One<b> Two </b>Three</p><div> <p> a </p> b</div><pre> x <b> y </b>\n z</pre><p>a<br>b<br> c</p>" +
+            "<div><div></div>text</div><span> </span><span><div></div></span>x<span><pre>  lead</pre></span>" +
+            "<p>\u200b a</p><p><![CDATA[ c ]]></p><textarea> t </textarea><ul><li>A<li> B <li><br></ul>";
+        Elements plain = Jsoup.parse(html).getAllElements();
+        Document doc = Jsoup.parse(html).cacheText(true);
+        assertTrue(doc.cacheText());
+        Elements cached = doc.getAllElements();
+        for (int i = cached.size() - 1; i >= 0; i--) // children first, then assembled into parents
+            assertEquals(plain.get(i).text(), cached.get(i).text());
+
+        doc = Jsoup.parse(html).cacheText(true);
+        cached = doc.getAllElements();
+        for (int i = 0; i < cached.size(); i++) // parents first, filling children
+            assertEquals(plain.get(i).text(), cached.get(i).text());
+
+        assertEquals(Jsoup.parse(html).select("p:contains(a)").size(), doc.select("p:contains(a)").size());
+    }
+
+    @Test void parallelSelectDoesNotWriteTextCache() {
+        StringBuilder html = new StringBuilder();
+        for (int i = 0; i < 200; i++)
+            html.append("<div><p>Price ").append(i).append(" <b>each</b></p><p>Other</p></div>");
+        Document doc = Jsoup.parse(html.toString()).cacheText(true);
+        Elements divs = doc.select("div");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Elements found = Selector.selectAll("p:contains(price 1), p:matches(\\d+ each$)", divs, executor);
+            assertEquals(200, found.size());
+            assertEquals(111, divs.select("p:contains(price 1)", executor).size());
+        } finally {
+            executor.shutdown();
+        }
+        for (Element el : doc.getAllElements()) // the selects read their own index, so the shared cache wasn't written
+            assertFalse(el.inTextCache);
+        assertFalse(doc.selectFirst("p:contains(price 1)").inTextCache);
+
+        Element p = doc.selectFirst("p");
+        assertEquals("Price 0 each", p.text()); // an explicit text() read fills it
+        assertTrue(p.inTextCache);
+    }
+
+    @Test void cachedTextClearedByChanges() {
+        Document doc = Jsoup.parse("<div><p>One <b>Two</b></p><span>  Three  four</span></div>").cacheText(true);
+        Element div = doc.selectFirst("div");
+        Element b = doc.selectFirst("b");
+        Element span = doc.selectFirst("span");
+        assertEquals("One Two Three four", div.text());
+
+        ((TextNode) b.childNode(0)).text("2");
+        assertEquals("One 2 Three four", div.text());
+        b.appendElement("i").text("!");
+        assertEquals("One 2! Three four", div.text());
+        assertEquals("2!", b.text());
+
+        span.tagName("pre"); // whitespace is preserved
+        assertEquals("One 2!   Three  four", div.text());
+        assertEquals("One 2!", doc.selectFirst("p").text());
+        span.tagName("span");
+        doc.selectFirst("p").remove();
+        assertEquals("Three four", div.text());
+
+        Element pre = doc.body().appendElement("pre");
+        assertEquals("Three four", span.text());
+        pre.appendChild(span); // moved into a pre
+        assertEquals("Three  four", span.text());
+        assertEquals("Three  four", doc.body().text());
+
+        doc.cacheText(false);
+        assertFalse(doc.cacheText());
+        span.text("Five");
+        assertEquals("Five", doc.body().text());
+    }
+
+    @Test void clonedDocumentIsIndependent() {
+        Document doc = Jsoup.parse("<div id=a class=c><p title=t>One <b>Two</b></p><!-- c --><p>Three</p></div>");
+        String html = doc.html();
+        Document clone = doc.clone();
+        assertEquals(html, clone.html());
+
+        Element p = clone.selectFirst("p");
+        p.attr("title", "u").appendText(" Four");
+        clone.selectFirst("div").removeAttr("class").appendElement("i");
+        ((TextNode) clone.selectFirst("b").childNode(0)).text("Deux");
+        assertEquals(html, doc.html()); // source unchanged
+
+        doc.selectFirst("p").attr("title", "v");
+        doc.getElementById("a").attr("class", "d");
+        assertEquals("<div id=\"a\">\n <p title=\"u\">One <b>Deux</b> Four</p><!-- c -->\n <p>Three</p><i></i>\n</div>", clone.body().html());
+
+        Document cloneOfFrozen = doc.freeze().clone();
+        cloneOfFrozen.selectFirst("p").attr("title", "w");
+        assertEquals("v", doc.selectFirst("p").attr("title"));
+    }
+
+    @Test void frozenDocumentCanBeRead() {
+        Document doc = Jsoup.parse("<div id=a class=c><p>One <b>Two</b></p><p title=t>Three</p><!-- c --></div><ul><li>A<li>B</ul>");
+        String html = doc.html();
+        assertFalse(doc.frozen());
+        assertSame(doc, doc.freeze());
+        assertTrue(doc.frozen());
+
+        assertEquals(html, doc.html());
+        assertEquals("One Two Three A B", doc.text());
+        assertEquals("Three", doc.selectFirst("p:nth-child(2)").text());
+        assertEquals("B", doc.selectFirst("li:last-child").text());
+        assertEquals(2, doc.getElementById("a").children().size());
+        assertEquals(1, doc.select("p[title]").first().elementSiblingIndex());
+        assertEquals(0, doc.selectFirst("b").attributes().size()); // no attributes, without creating them
+        TextNode text = (TextNode) doc.selectFirst("p").childNode(0);
+        assertFalse(text.hasAttr("href"));
+        assertEquals("One ", text.attributes().get("#text"));
+        assertEquals(0, doc.selectFirst("b").childNode(0).childNodeSize());
+    }
+
+    @Test void frozenDocumentCanNotBeModified() {
+        Document doc = Jsoup.parse("<div id=a><p>One</p><p title=t>Two</p></div>", "https://example.com/");
+        Document other = Jsoup.parse("<span>Other</span>");
+        String html = doc.html();
+        doc.freeze();
+
+        Element div = doc.getElementById("a");
+        Element p = doc.selectFirst("p");
+        Element span = other.selectFirst("span");
+        TextNode text = (TextNode) p.childNode(0);
+        assertFrozen(() -> div.appendElement("p"));
+        assertFrozen(() -> div.prependChild(span));
+        assertFrozen(() -> div.attr("class", "c"));
+        assertFrozen(() -> div.attributes().put("class", "c"));
+        assertFrozen(() -> div.removeAttr("id"));
+        assertFrozen(() -> div.tagName("section"));
+        assertFrozen(() -> div.text("New"));
+        assertFrozen(div::empty);
+        assertFrozen(p::remove);
+        assertFrozen(() -> p.replaceWith(span));
+        assertFrozen(() -> p.after("<p>New</p>"));
+        assertFrozen(() -> p.clearAttributes());
+        assertFrozen(() -> p.addClass("c"));
+        assertFrozen(() -> p.nextElementSibling().attributes().iterator().next().setValue("New"));
+        assertFrozen(() -> text.text("New"));
+        assertFrozen(() -> text.attr("x", "y"));
+        assertFrozen(() -> span.appendChild(p)); // moving out of the frozen document
+        assertFrozen(() -> other.body().appendChild(text));
+        assertFrozen(() -> doc.outputSettings().prettyPrint(false));
+        assertFrozen(() -> doc.outputSettings(new OutputSettings()));
+        assertFrozen(() -> doc.indexed(true));
+        assertFrozen(() -> doc.title("Title"));
+        assertFrozen(() -> doc.charset(StandardCharsets.US_ASCII));
+
+        assertEquals(html, doc.html()); // unchanged
+        assertEquals("<span>Other</span>", other.body().html());
+        assertSame(other.body(), span.parent());
+
+        // the clone can be modified
+        Document clone = doc.clone();
+        assertFalse(clone.frozen());
+        clone.getElementById("a").appendElement("p").text("Three").attr("class", "c");
+        clone.selectFirst("p").childNode(0).attr("#text", "Uno");
+        clone.outputSettings().prettyPrint(false);
+        assertEquals("<div id=\"a\"><p>Uno</p><p title=\"t\">Two</p><p class=\"c\">Three</p></div>", clone.body().html());
+        assertEquals(html, doc.html());
+        assertTrue(doc.outputSettings().prettyPrint());
+
+        Element shallow = div.shallowClone();
+        shallow.attr("class", "c");
+        Element deep = div.clone();
+        deep.appendElement("i");
+        assertEquals(3, deep.childrenSize());
+    }
+
+    private static void assertFrozen(Runnable modification) {
+        assertThrows(UnsupportedOperationException.class, modification::run);
+    }
+
+    @Test void frozenIndexedDocument() {
+        Document doc = Jsoup.parse("<p id=a class=x>One</p><p class=x>Two</p>").indexed(true).freeze();
+        assertEquals(2, doc.getElementsByClass("x").size());
+        assertEquals("One", doc.getElementById("a").text());
+        assertEquals(2, doc.select("p.x").size());
+    }
+
+    @Test void frozenLeanDocument() {
+        Document doc = Jsoup.parse("<ul><li>A<li>B<li>C</ul>", "", Parser.htmlParser().leanDom(true)).freeze();
+        assertEquals("B", doc.selectFirst("li:nth-child(2)").text());
+        assertFrozen(() -> doc.selectFirst("ul").appendElement("li"));
+    }
+
+    @Test void frozenDocumentIsReadConcurrently() throws InterruptedException {
+        StringBuilder html = new StringBuilder("<title>Shared</title>");
+        for (int i = 0; i < 200; i++)
+            html.append("<div class=d").append(i % 5).append("><p>Para <b>").append(i).append("</b></p><ul><li>A<li>B</ul></div>");
+        Document doc = Jsoup.parse(html.toString()).indexed(true).freeze();
+        String expectedHtml = doc.html();
+        String expectedText = doc.text();
+
+        Thread[] threads = new Thread[4];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 20; i++) {
+                        assertEquals(200, doc.select("li:nth-child(2)").size());
+                        assertEquals(40, doc.getElementsByClass("d3").size());
+                        assertTrue(expectedText.equals(doc.text()));
+                        assertTrue(expectedHtml.equals(doc.html()));
+                        assertEquals("Shared", doc.title());
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        assertNull(failure.get());
+    }
+
+    @Test public void writeToMatchesOuterHtml() throws IOException {
+        Document doc = Jsoup.parse(ParseTest.getFile("/htmltests/large.html"), "UTF-8");
+        doc.body().appendElement("p").text("Emoji 😀 and CJK 漢字 across the buffers. ".substring(0, 40));
+        for (String charset : new String[]{"UTF-8", "ISO-8859-1", "Shift_JIS", "UTF-16"}) {
+            doc.outputSettings().charset(charset);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            doc.writeTo(out);
+            assertArrayEquals(doc.outerHtml().getBytes(charset), out.toByteArray(), charset);
+        }
+    }
+
+    @Test public void writeToSplitsSurrogatesAcrossBuffers() throws IOException {
+        StringBuilder sb = new StringBuilder("<p>");
+        for (int i = 0; i < 10000; i++) {
+            sb.append("a😀"); // odd number of chars, so pairs will be split across the buffer boundaries
+        }
+        Document doc = Jsoup.parse(sb.toString());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        doc.body().writeTo(Channels.newChannel(out));
+        assertArrayEquals(doc.body().outerHtml().getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    @Test public void writeToUsesGivenSettings() throws IOException {
+        Document doc = Jsoup.parse("<div><p>Hello, &lt;Wörld&gt;</p></div>");
+        Element div = doc.selectFirst("div");
+        OutputSettings settings = new OutputSettings().prettyPrint(false).charset("ascii");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        div.writeTo(out, settings);
+        assertEquals("<div><p>Hello, &lt;W&ouml;rld&gt;</p></div>", new String(out.toByteArray(), StandardCharsets.US_ASCII));
+        assertTrue(doc.outputSettings().prettyPrint()); // doc settings not changed
+    }
 }
@@ -2062,6 +2062,24 @@ public class ElementTest {
             doc.body().html());
     }
 
+    @Test
+    public void trimToSize() {
+        Document doc = Jsoup.parse("<div id=1 class=a><p>One</p><p>Two</p></div>");
+        Element div = doc.selectFirst("div");
+        div.trimToSize();
+        doc.body().trimToSize(); // no-ops on elements without children or attributes
+        new Element("p").trimToSize();
+        assertEquals("<div id=\"1\" class=\"a\">\n <p>One</p>\n <p>Two</p>\n</div>", div.outerHtml());
+
+        div.appendElement("p").text("Three");
+        div.attr("title", "t").removeAttr("id");
+        assertEquals("<div class=\"a\" title=\"t\">\n <p>One</p>\n <p>Two</p>\n <p>Three</p>\n</div>", div.outerHtml());
+
+        div.clearAttributes().trimToSize();
+        div.attr("id", "2");
+        assertEquals("2", div.id());
+    }
+
     @Test
     public void loopMoveChildren() {
         Document doc = Jsoup.parse("<div><p>One<p>Two<p>Three</div><div><p>Four</div>");
@@ -132,6 +132,34 @@ public class EntitiesTest {
         assertEquals("¹²³¼½¾", p.html());
     }
 
+    @Test public void nameTrieMatchesEntityTables() {
+        String[] names = {"amp", "AMP", "lt", "nbsp", "sup1", "frac34", "NotNestedLessLess", "nGt", "acE", "zwnj",
+            "ampx", "am", "a", "sup", "sup4", "Amp", "x"};
+        int[] fromTable = new int[2];
+        int[] fromTrie = new int[2];
+        for (String name : names) {
+            int state = Entities.NameTrie.Start;
+            for (int i = 0; i < name.length(); i++)
+                state = Entities.NameTrie.next(state, name.charAt(i));
+
+            assertEquals(Entities.isNamedEntity(name), Entities.NameTrie.isNamed(state), name);
+            assertEquals(Entities.isBaseNamedEntity(name), Entities.NameTrie.isBase(state), name);
+            int count = Entities.codepointsForName(name, fromTable);
+            assertEquals(count, Entities.NameTrie.codepoints(state, fromTrie), name);
+            for (int i = 0; i < count; i++)
+                assertEquals(fromTable[i], fromTrie[i], name);
+            assertEquals(Entities.isNamedEntity(name) ? name : null, Entities.NameTrie.name(state));
+        }
+        assertEquals(Entities.NameTrie.NoMatch, Entities.NameTrie.next(Entities.NameTrie.Start, '1'));
+        assertEquals(Entities.NameTrie.NoMatch, Entities.NameTrie.next(Entities.NameTrie.NoMatch, 'a'));
+    }
+
+    @Test public void unescapesNamedEntitiesByTrie() {
+        // base entities don't need the ;, extended do; the whole letter-digit run must be the name
+        assertEquals("& &amp2 ≂̸ &nGt ≫⃒ &ampx; ¹ &sup4;", Entities.unescape("&amp &amp2 &nesim; &nGt &nGt; &ampx; &sup1 &sup4;"));
+        assertEquals("&amp=1 &nbspx", Entities.unescape("&amp=1 &nbspx", true));
+    }
+
     @Test public void noSpuriousDecodes() {
         String string = "http://www.foo.com?a=1&num_rooms=1&children=0&int=VA&b=2";
         assertEquals(string, Entities.unescape(string));
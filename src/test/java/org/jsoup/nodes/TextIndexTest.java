@@ -0,0 +1,32 @@
+package org.jsoup.nodes;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TextIndexTest {
+    @Test public void indexesTextOfEachElement() {
+        Document doc = Jsoup.parse("<div id=1>One <p>Two<b> Three </b></p>Four<pre>  Five\n Six </pre><p>a<br>b</p><span> </span>" +
+            "<p>\u200b c</p><p><![CDATA[ d ]]></p></div><div id=2>Seven</div>");
+        TextIndex index = new TextIndex(doc.body());
+        assertSame(doc.body(), index.root());
+        for (Element el : doc.body().getAllElements()) {
+            assertTrue(index.indexes(el));
+            assertEquals(el.text(), index.text(el));
+            assertEquals(el.text(), index.indexedText().substring(index.start(el), index.end(el)));
+        }
+        assertEquals("One Two Three Four   Five\n Six a b c  d", index.text(doc.getElementById("1")));
+        assertFalse(index.indexes(doc.head()));
+        assertThrows(IllegalArgumentException.class, () -> index.text(doc.head()));
+    }
+
+    @Test public void indexesFromRoot() {
+        Document doc = Jsoup.parse("<div>One <p> Two <i>Three</i></p> </div>");
+        Element p = doc.selectFirst("p");
+        TextIndex index = new TextIndex(p);
+        assertEquals("Two Three", index.text(p));
+        assertEquals("Three", index.text(p.selectFirst("i")));
+        assertFalse(index.indexes(p.parent()));
+    }
+}
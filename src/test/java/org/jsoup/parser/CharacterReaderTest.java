@@ -162,6 +162,18 @@ public class CharacterReaderTest {
         assertEquals(" qux", r.consumeToAny('&', ';'));
     }
 
+    @Test public void consumeToAnySkipsCharsAboveTheSet() {
+        // the scans pass over chars greater than any in the set without searching it; check either side of that bound
+        CharacterReader r = new CharacterReader("Zürich€~x=1 'q' \u0000");
+        assertEquals("Zürich€~x", r.consumeToAnySorted(TokeniserState.attributeNameCharsSorted));
+        assertEquals('=', r.consume());
+        assertEquals("1 ", r.consumeToAny('\'', '\u0000'));
+        assertEquals('\'', r.consume());
+        assertEquals("q' ", r.consumeToAny('\u0000'));
+        assertEquals("\u0000", r.consumeToAny());
+        assertTrue(r.isEmpty());
+    }
+
     @Test public void consumeLetterSequence() {
         CharacterReader r = new CharacterReader("One &bar; qux");
         assertEquals("One", r.consumeLetterSequence());
@@ -1,13 +1,17 @@
 package org.jsoup.parser;
 
 import org.jsoup.Jsoup;
+import org.jsoup.TextUtil;
 import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.StringReader;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class ParserTest {
 
@@ -35,4 +39,166 @@ public class ParserTest {
         String text = parsed.selectFirst("p").wholeText();
         assertEquals(text, "H\u00E9llo, w\u00F6rld!");
     }
+
+    @Test
+    public void stopAfterHead() {
+        StringBuilder html = new StringBuilder("<html><head><title>Title</title><meta name=description content=Desc></head><body>");
+        for (int i = 0; i < 10000; i++) {
+            html.append("<p>Paragraph ").append(i);
+        }
+        TrackingReader reader = new TrackingReader(html.toString());
+
+        Parser parser = Parser.htmlParser().stopAfter("head");
+        Document doc = parser.parseInput(reader, "");
+        assertEquals("Title", doc.title());
+        assertEquals("Desc", doc.selectFirst("meta[name=description]").attr("content"));
+        assertEquals(0, doc.select("p").size());
+        assertEquals("<html><head><title>Title</title><meta name=\"description\" content=\"Desc\"></head></html>",
+            TextUtil.stripNewlines(doc.html()));
+
+        assertTrue(reader.closed);
+        assertTrue(reader.read <= CharacterReader.maxBufferLen); // just the first buffer, of ~170K
+    }
+
+    @Test
+    public void stopAfterFirstMatch() {
+        String html = "<article><h1>One</h1><p>Hello</article><article><h1>Two</h1></article><p>Three";
+        Parser parser = Parser.htmlParser().stopAfter("article");
+        Document doc = Jsoup.parse(html, "", parser);
+        assertEquals("<article><h1>One</h1><p>Hello</p></article>", TextUtil.stripNewlines(doc.body().html()));
+
+        // fragment parses (which use the document's parser) are not stopped
+        doc.body().html("<article>A</article><article>B</article>");
+        assertEquals(2, doc.select("article").size());
+
+        // can clear the condition
+        parser.stopAfter((Evaluator) null);
+        assertNull(parser.stopAfter());
+        assertEquals(2, Jsoup.parse(html, "", parser).select("article").size());
+    }
+
+    @Test
+    public void maxElements() {
+        String html = "<div><p>One<p>Two<p>Three</div><div>Four</div>";
+        Parser parser = Parser.htmlParser().maxElements(3); // the implied head, and two ps
+        assertEquals(3, parser.maxElements());
+        Document doc = Jsoup.parse(html, "", parser);
+        assertEquals("One Two", doc.text());
+
+        Parser copy = parser.newInstance();
+        assertEquals(3, copy.maxElements());
+        assertEquals("One Two", Jsoup.parse(html, "", copy).text());
+
+        assertEquals("One Two Three Four", Jsoup.parse(html, "", parser.maxElements(0)).text());
+        assertThrows(IllegalArgumentException.class, () -> parser.maxElements(-1));
+    }
+
+    @Test
+    public void stopAfterXml() {
+        String xml = "<feed><title>Feed</title><entry>One</entry><entry>Two</entry></feed>";
+        Document doc = Jsoup.parse(xml, "", Parser.xmlParser().stopAfter("title"));
+        assertEquals("<feed><title>Feed</title></feed>", doc.html());
+    }
+
+    @Test
+    public void reusesBuffersBetweenParses() {
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; i < 5000; i++)
+            large.append("<p class=c").append(i % 7).append(">Para ").append(i).append(" &copy;\n");
+        String[] inputs = {
+            "<title>One</title><p>One &amp; <b>two</b>",
+            "<table><tr><td>Cell<td><i>Cell</table><template><p>T</template><a><b>Mis</a>nested</b>",
+            "<script>var a = '</div>';</script><textarea>&lt;b</textarea><!-- comment --><p id=a>&nope; &#x",
+            large.toString(), // spans more than one buffer
+            "<p>Last",
+        };
+
+        Parser reusing = Parser.htmlParser().reuse(true);
+        assertTrue(reusing.reuse());
+        for (int round = 0; round < 2; round++) {
+            for (String html : inputs) {
+                Parser fresh = Parser.htmlParser().setTrackErrors(100);
+                reusing.setTrackErrors(100);
+                Document expected = Jsoup.parse(html, "", fresh);
+                Document doc = Jsoup.parse(html, "", reusing);
+                assertEquals(expected.html(), doc.html());
+                assertEquals(fresh.getErrors().toString(), reusing.getErrors().toString());
+
+                assertNotSame(reusing, doc.parser()); // docs don't get the reusing parser
+                assertFalse(doc.parser().reuse());
+            }
+        }
+
+        Parser xml = Parser.xmlParser().reuse(true);
+        for (String html : inputs)
+            assertEquals(Jsoup.parse(html, "", Parser.xmlParser()).html(), Jsoup.parse(html, "", xml).html());
+    }
+
+    @Test
+    public void leanDomParsesSameDocument() {
+        String html = "<div id=1 class=a><p>One <b title=x>Two</b> <i>Three</i></p><p>Four</p></div><ul><li>A<li>B<li>C</ul>";
+        Parser lean = Parser.htmlParser().leanDom(true);
+        assertTrue(lean.leanDom());
+        assertFalse(Parser.htmlParser().leanDom());
+
+        Document doc = Jsoup.parse(html, "", lean);
+        assertTrue(doc.parser().leanDom());
+        assertEquals(Jsoup.parse(html).html(), doc.html());
+        assertEquals(2, doc.selectFirst("div").children().size());
+        assertEquals("B", doc.selectFirst("li:nth-child(2)").text());
+        assertEquals(1, doc.selectFirst("p + p").elementSiblingIndex());
+
+        // trimmed elements can still be modified
+        Element div = doc.selectFirst("div");
+        div.appendElement("p").text("Five").attr("class", "f").attr("id", "5");
+        div.attr("data-x", "y");
+        assertEquals(3, div.children().size());
+        assertEquals("<p class=\"f\" id=\"5\">Five</p>", div.child(2).outerHtml());
+        assertEquals("y", div.attr("data-x"));
+
+        Document xml = Jsoup.parse("<a><b>1</b><b>2</b></a>", "", Parser.xmlParser().leanDom(true));
+        assertTrue(xml.parser().leanDom());
+        assertEquals("2", xml.selectFirst("b:nth-child(2)").text());
+    }
+
+    @Test
+    public void leanDomSelectsAmongManySiblings() {
+        StringBuilder sb = new StringBuilder("<ul>");
+        for (int i = 0; i < 20000; i++)
+            sb.append("<li>").append(i);
+        String html = sb.toString();
+
+        Document doc = Jsoup.parse(html, "", Parser.htmlParser().leanDom(true));
+        assertEquals(Jsoup.parse(html).select("li:nth-child(2n)").size(), doc.select("li:nth-child(2n)").size()); // linear, not quadratic
+        Element ul = doc.selectFirst("ul");
+        assertEquals(19999, ul.lastElementChild().elementSiblingIndex());
+
+        ul.appendElement("li").text("new"); // the held list is replaced when the children change
+        assertEquals("new", ul.lastElementChild().text());
+        assertEquals(20000, ul.lastElementChild().elementSiblingIndex());
+        assertEquals(20001, ul.children().size());
+
+        doc.freeze();
+        assertEquals(10001, doc.select("li:nth-child(2n+1)").size());
+    }
+
+    static class TrackingReader extends StringReader {
+        int read = 0;
+        boolean closed = false;
+
+        TrackingReader(String s) {
+            super(s);
+        }
+
+        @Override public int read(char[] cbuf, int off, int len) throws IOException {
+            int count = super.read(cbuf, off, len);
+            if (count > 0) read += count;
+            return count;
+        }
+
+        @Override public void close() {
+            closed = true;
+            super.close();
+        }
+    }
 }
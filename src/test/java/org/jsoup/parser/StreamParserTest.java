@@ -0,0 +1,150 @@
+package org.jsoup.parser;
+
+import org.jsoup.Jsoup;
+import org.jsoup.integration.ParseTest;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ Tests the StreamParser.
+ */
+public class StreamParserTest {
+    @Test void emitsElementsAsTheyClose() {
+        String html = "<title>Test</title><div id=1><p>One</p><p>Two</p></div><p>Three";
+        StreamParser streamer = new StreamParser(Parser.htmlParser()).parse(html, "");
+
+        StringBuilder seen = new StringBuilder();
+        Iterator<Element> it = streamer.iterator();
+        while (it.hasNext()) {
+            Element el = it.next();
+            seen.append(el.normalName()).append(el.id()).append(';');
+        }
+        assertEquals("title;head;p;p;div1;p;body;html;", seen.toString());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test void emittedElementsAreComplete() throws IOException {
+        String html = "<ul><li>One <b>two</b><li>Three <i>four</ul>";
+        StreamParser streamer = new StreamParser(Parser.htmlParser()).parse(html, "");
+
+        Element li = streamer.selectNext("li");
+        assertNotNull(li);
+        assertEquals("One two", li.text());
+        assertEquals("ul", li.parent().normalName());
+
+        li = streamer.selectNext("li");
+        assertNotNull(li);
+        assertEquals("Three four", li.text());
+        assertNull(streamer.selectNext("li"));
+    }
+
+    @Test void canRemoveCompletedElements() throws IOException {
+        StringBuilder html = new StringBuilder("<table>");
+        for (int i = 0; i < 100; i++) {
+            html.append("<tr><td>").append(i).append("<td>Row ").append(i);
+        }
+        html.append("</table><p>End");
+
+        StreamParser streamer = new StreamParser(Parser.htmlParser()).parse(html.toString(), "");
+        int count = 0;
+        Element row;
+        while ((row = streamer.selectNext("tr")) != null) {
+            assertEquals(String.valueOf(count), row.child(0).text());
+            row.remove();
+            count++;
+        }
+        assertEquals(100, count);
+
+        Document doc = streamer.document();
+        assertEquals(0, doc.select("tr").size());
+        assertEquals("End", doc.select("p").text());
+    }
+
+    @Test void iteratorRemove() {
+        StreamParser streamer = new StreamParser(Parser.htmlParser()).parse("<div><p>One<p>Two</div><p>Three", "");
+        Iterator<Element> it = streamer.iterator();
+        while (it.hasNext()) {
+            Element el = it.next();
+            if (el.normalName().equals("p"))
+                it.remove();
+        }
+        assertEquals("<div></div>", streamer.document().body().html());
+    }
+
+    @Test void completeMatchesParse() throws IOException {
+        String html = "<!doctype html><html><head><title>T</title></head><script>var a;</script><body>" +
+            "<p>One <b>two <i>three</b> four</i><table><tr><td>Cell</table><form><input name=a></form>" +
+            "</body></html>\n";
+
+        StreamParser streamer = new StreamParser(Parser.htmlParser()).parse(html, "");
+        assertNotNull(streamer.selectNext("b"));
+        Document doc = streamer.complete();
+        assertEquals(Jsoup.parse(html).outerHtml(), doc.outerHtml());
+        assertFalse(streamer.iterator().hasNext());
+    }
+
+    @Test void stopEndsIteration() throws IOException {
+        StreamParser streamer = new StreamParser(Parser.htmlParser()).parse("<p>One<p>Two<p>Three", "");
+        assertEquals("One", streamer.selectNext("p").text());
+        streamer.stop();
+        assertFalse(streamer.iterator().hasNext());
+        assertNull(streamer.selectNext("p"));
+        streamer.close();
+    }
+
+    @Test void xmlStream() throws IOException {
+        String xml = "<?xml version=\"1.0\"?><feed><entry id=1><title>One</title></entry><empty/><entry id=2><title>Two</title></entry>";
+        StreamParser streamer = new StreamParser(Parser.xmlParser()).parse(new StringReader(xml), "");
+
+        Element entry = streamer.selectNext("entry");
+        assertEquals("1", entry.id());
+        assertEquals("empty", streamer.iterator().next().tagName());
+        entry = streamer.selectNext("entry");
+        assertEquals("Two", entry.selectFirst("title").text());
+        assertEquals("feed", streamer.iterator().next().tagName());
+        assertFalse(streamer.iterator().hasNext());
+    }
+
+    @Test void parserCanBeReused() throws IOException {
+        Parser parser = Parser.htmlParser();
+        StreamParser streamer = new StreamParser(parser);
+        assertEquals("One", streamer.parse("<p>One", "").selectNext("p").text());
+        assertEquals("Two", streamer.parse("<p>Two", "").selectNext("p").text());
+        streamer.close();
+
+        Document doc = parser.parseInput("<p>Three", "");
+        assertEquals("Three", doc.text());
+    }
+
+    @Test void emitsEachElementOnce() throws IOException {
+        String[] files = {"/htmltests/google-ipod.html.gz", "/htmltests/news-com-au-home.html.gz",
+            "/htmltests/yahoo-jp.html.gz", "/htmltests/baidu-cn-home.html", "/htmltests/xwiki-1324.html.gz"};
+        for (String file : files) {
+            File in = ParseTest.getFile(file);
+            String html = ParseTest.getFileAsString(in);
+            StreamParser streamer = new StreamParser(Parser.htmlParser()).parse(html, "");
+
+            IdentityHashMap<Element, Boolean> seen = new IdentityHashMap<>();
+            Iterator<Element> it = streamer.iterator();
+            while (it.hasNext()) {
+                Element el = it.next();
+                assertNull(seen.put(el, Boolean.TRUE), () -> "Emitted twice: " + el.cssSelector());
+            }
+
+            Document doc = streamer.document();
+            assertEquals(doc.getAllElements().size() - 1, seen.size(), file); // all but the document
+            assertEquals(Jsoup.parse(html).outerHtml(), doc.outerHtml());
+        }
+    }
+}
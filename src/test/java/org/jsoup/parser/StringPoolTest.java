@@ -0,0 +1,86 @@
+package org.jsoup.parser;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StringPoolTest {
+    @Test public void poolsEqualStrings() {
+        StringPool pool = new StringPool(16, 8);
+        String one = new String("class");
+        String two = new String("class");
+        assertSame(one, pool.get(one));
+        assertSame(one, pool.get(two));
+
+        String longer = new String("longer than eight");
+        assertSame(longer, pool.get(longer));
+        assertNotSame(longer, pool.get(new String(longer))); // not pooled
+    }
+
+    @Test public void isBounded() {
+        StringPool pool = new StringPool(10, 8);
+        assertEquals(16, pool.capacity());
+        assertEquals(8, pool.maxLength());
+        for (int i = 0; i < 1000; i++)
+            pool.get("s" + i); // colliding strings replace each other, rather than growing the pool
+        String last = pool.get("s999");
+        assertSame(last, pool.get(new String("s999")));
+
+        assertThrows(IllegalArgumentException.class, () -> new StringPool(0, 8));
+        assertThrows(IllegalArgumentException.class, () -> new StringPool(16, -1));
+    }
+
+    @Test public void parserSharesStringsBetweenDocuments() {
+        String html = "<p class=lead><a href=/one rel=nofollow data-long-attribute-name='a rather longer value'>One</a><my-widget>W</my-widget>";
+        Parser parser = Parser.htmlParser().stringPool(new StringPool(512, 16));
+        Document one = Jsoup.parse(html, "", parser);
+        Document two = Jsoup.parse(html, "", parser);
+        assertEquals(one.html(), two.html());
+
+        Element a1 = one.selectFirst("a");
+        Element a2 = two.selectFirst("a");
+        Iterator<Attribute> it2 = a2.attributes().iterator();
+        for (Attribute attr1 : a1.attributes()) {
+            Attribute attr2 = it2.next();
+            assertPooledIfShort(attr1.getKey(), attr2.getKey());
+            assertPooledIfShort(attr1.getValue(), attr2.getValue());
+        }
+        assertSame(one.selectFirst("my-widget").tagName(), two.selectFirst("my-widget").tagName());
+        assertSame(parser.stringPool(), parser.newInstance().stringPool());
+
+        // without a pool, each document has its own copies
+        Document three = Jsoup.parse(html, "");
+        Document four = Jsoup.parse(html, "");
+        assertNotSame(three.selectFirst("a").attr("rel"), four.selectFirst("a").attr("rel"));
+    }
+
+    private static void assertPooledIfShort(String one, String two) {
+        assertEquals(one, two);
+        if (one.length() <= 16)
+            assertSame(one, two);
+        else
+            assertNotSame(one, two);
+    }
+
+    @Test public void sharedPoolIsThreadSafe() throws InterruptedException {
+        StringPool pool = StringPool.shared();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    String s = "k" + (i % 100);
+                    assertEquals(s, pool.get(s));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+    }
+}
@@ -0,0 +1,150 @@
+package org.jsoup.parser;
+
+import org.jsoup.Jsoup;
+import org.jsoup.integration.ParseTest;
+import org.jsoup.nodes.Attributes;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Selector;
+import org.jsoup.select.TagQuery;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ Tests the TagScanner, and its TagQuery matching.
+ */
+public class TagScannerTest {
+    @Test void matchesStartTags() {
+        String html = "<head><meta property='og:title' content=Title><meta name=description content=Desc>" +
+            "<link rel=stylesheet href=/s.css></head><body><a href=/one>One</a><a name=x>Two</a><A HREF=/three>3</A>";
+        List<String> seen = new ArrayList<>();
+        new TagScanner()
+            .on("a[href]", (name, attributes) -> seen.add(name + ":" + attributes.get("href")))
+            .on("meta[property^=og:]", (name, attributes) -> seen.add(name + ":" + attributes.get("content")))
+            .scan(html);
+        assertEquals("[meta:Title, a:/one, a:/three]", seen.toString());
+    }
+
+    @Test void matchesAsSelect() throws IOException {
+        String[] files = {"/htmltests/news-com-au-home.html.gz", "/htmltests/nyt-article-1.html.gz",
+            "/htmltests/google-ipod.html.gz", "/htmltests/baidu-cn-home.html"};
+        String[] queries = {"a[href]", "meta[property^=og:]", "link[rel=stylesheet]", "img[src$=.jpg]", "a.story",
+            "div#header", "script[src*=js]", "input[type!=hidden]", "a[^data-]", "a[href~=^http]"};
+        for (String file : files) {
+            String html = ParseTest.getFileAsString(ParseTest.getFile(file));
+            Document doc = Jsoup.parse(html);
+            for (String query : queries) {
+                List<String> expected = new ArrayList<>();
+                for (Element el : doc.select(query))
+                    expected.add(el.normalName() + el.attributes().html());
+
+                List<String> scanned = new ArrayList<>();
+                new TagScanner()
+                    .on(query, (name, attributes) -> scanned.add(name + attributes.html()))
+                    .scan(new StringReader(html));
+                assertEquals(expected, scanned, file + " " + query);
+            }
+        }
+    }
+
+    @Test void followsTreeBuilderDropsAndRenames() {
+        String[] inputs = {
+            "<select><a href=1>1</a><img src=2><option>x<a href=3></select><a href=4>4</a>",
+            "<select><select><a href=1></select><a href=2>",
+            "<form><select><option>1<input><a href=2>2</a>",
+            "<table><tr><td><select><option>1<td><a href=2>2</a></table>",
+            "<select><script>var a = '<a href=1>';</script></select><a href=2>",
+            "<head><noscript><a href=4></a></noscript></head><body><a href=5>",
+            "<head><noscript><link href=1><meta property=og:x><style><a href=2></style><img src=3></noscript>" +
+                "<link href=4></head><noscript><a href=5></a></noscript>",
+            "<head><title>Title</title><noscript><script>x</script><a href=6></noscript><link href=7>",
+            "<head></head><noscript><a href=1></noscript>",
+            "One<noscript><a href=2></noscript>",
+            "<image src=b><p><IMAGE src=c></p><svg><image src=d></svg>",
+            "<td><a href=1></td><tr><img src=2><caption><a href=3>",
+        };
+        String query = "a[href], img[src], link[href], meta[property], td, tr, caption, option, select, noscript, image";
+        for (String html : inputs) {
+            List<String> expected = new ArrayList<>();
+            for (Element el : Jsoup.parse(html).select(query))
+                expected.add(el.normalName() + el.attributes().html());
+
+            List<String> scanned = new ArrayList<>();
+            new TagScanner()
+                .on(query, (name, attributes) -> scanned.add(name + attributes.html()))
+                .scan(html);
+            assertEquals(expected, scanned, html);
+        }
+    }
+
+    @Test void matchesAncestors() {
+        String html = "<div class='Content Main'><p>One <a href=1>1</a></p><ul><li><a href=2>2</a><li><span>" +
+            "<a href=3>3</a></span></ul></div><a href=4>4</a><table><tr><td><a href=5>5</a><td>" +
+            "<p><a href=6>6</a><div><a href=7>7</a></div></table>";
+        assertEquals("1 2 3", scan(html, "div.content a"));
+        assertEquals("2", scan(html, "li > a"));
+        assertEquals("2 3", scan(html, "ul li a"));
+        assertEquals("3", scan(html, "li > span > a"));
+        assertEquals("1 2 3 4 5 6 7", scan(html, "a"));
+        assertEquals("5 6 7", scan(html, "td a"));
+        assertEquals("7", scan(html, "td > div > a")); // the div closed the p
+        assertEquals("1 6", scan(html, "p > a, #none a"));
+    }
+
+    @Test void skipsRawTextAndEmptyTags() {
+        String html = "<script>document.write('<a href=x>');</script><textarea><a href=x></textarea>" +
+            "<div/><br><img src=1><a href=1>1</a><title><a href=x></title><style><div><a href=x></style>";
+        assertEquals("1", scan(html, "a"));
+        assertEquals("", scan(html, "div a, br a, img a"));
+    }
+
+    @Test void canStop() {
+        TagScanner scanner = new TagScanner();
+        List<String> seen = new ArrayList<>();
+        scanner.on("a", (name, attributes) -> {
+            seen.add(attributes.get("href"));
+            scanner.stop();
+        });
+        scanner.scan("<a href=1>1</a><a href=2>2</a>");
+        assertEquals("[1]", seen.toString());
+
+        seen.clear();
+        scanner.scan("<a href=3>3</a><a href=4>4</a>"); // a new scan starts afresh
+        assertEquals("[3]", seen.toString());
+    }
+
+    @Test void providesAttributes() {
+        List<Attributes> seen = new ArrayList<>();
+        new TagScanner()
+            .on("a", (name, attributes) -> seen.add(attributes))
+            .scan("<a HREF=1 Href=2 title=One>1</a><a>2</a>");
+        assertEquals(2, seen.size());
+        assertEquals(" href=\"1\" title=\"One\"", seen.get(0).html()); // normalized and deduplicated
+        assertEquals(0, seen.get(1).size());
+    }
+
+    @Test void rejectsQueriesNeedingContent() {
+        String[] queries = {"p:contains(one)", "li:eq(1)", "h1 + p", "h1 ~ p", "div:has(p)", "p:first-child",
+            ":root", "a:not(.x)", "a[abs:href]"};
+        for (String query : queries)
+            assertThrows(Selector.SelectorParseException.class, () -> TagQuery.compile(query), query);
+        assertThrows(Selector.SelectorParseException.class, () -> TagQuery.compile("div >"));
+    }
+
+    private static String scan(String html, String query) {
+        StringBuilder sb = new StringBuilder();
+        new TagScanner()
+            .on(query, (name, attributes) -> {
+                if (sb.length() > 0) sb.append(' ');
+                sb.append(attributes.get("href"));
+            })
+            .scan(html);
+        return sb.toString();
+    }
+}
@@ -85,4 +85,32 @@ public class QueryParserTest {
         Evaluator parse = QueryParser.parse(q);
         assertEquals(q, parse.toString());
     }
+
+    @Test public void andEvaluatorsSortedByCost() {
+        String q = "div:matches(.*foo.*).x[title]";
+        CombiningEvaluator.And and = (CombiningEvaluator.And) QueryParser.parse(q);
+        assertEquals(q, and.toString()); // query order retained
+
+        assertEquals(4, and.sortedEvaluators.size());
+        assertTrue(and.sortedEvaluators.get(0) instanceof Evaluator.Tag);
+        assertTrue(and.sortedEvaluators.get(1) instanceof Evaluator.Attribute);
+        assertTrue(and.sortedEvaluators.get(2) instanceof Evaluator.Class);
+        assertTrue(and.sortedEvaluators.get(3) instanceof Evaluator.Matches);
+        assertEquals(1 + 12 + 6 + 2, and.cost());
+        assertEquals("div[title].x:matches(.*foo.*)", and.toMatchOrderString());
+    }
+
+    @Test public void orRendersNestedMatchOrder() {
+        CombiningEvaluator.Or or = (CombiningEvaluator.Or) QueryParser.parse("p:containsOwn(one).x, a[href]#id");
+        assertEquals("p:containsOwn(one).x, a[href]#id", or.toString());
+        assertEquals("a[href]#id, p.x:containsOwn(one)", or.toMatchOrderString()); // the cheaper clause first
+    }
+
+    @Test public void structuralCostIncludesInner() {
+        CombiningEvaluator.And and = (CombiningEvaluator.And) QueryParser.parse("p:has(span):not(.foo).bar");
+        assertTrue(and.sortedEvaluators.get(0) instanceof Evaluator.Tag);
+        assertTrue(and.sortedEvaluators.get(1) instanceof Evaluator.Class);
+        assertTrue(and.sortedEvaluators.get(2) instanceof StructuralEvaluator.Not);
+        assertTrue(and.sortedEvaluators.get(3) instanceof StructuralEvaluator.Has);
+    }
 }
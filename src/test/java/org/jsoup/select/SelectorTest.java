@@ -7,7 +7,24 @@ import org.jsoup.nodes.Element;
 import org.jsoup.parser.Parser;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -1110,4 +1127,309 @@ public class SelectorTest {
         Selector.SelectorParseException ex = new Selector.SelectorParseException("%&");
         assertEquals("%&", ex.getMessage());
     }
+
+    @Test public void compiledQueriesAreCached() {
+        String query = "div.compiled > p:has(span)";
+        Evaluator eval = Selector.compile(query);
+        long hits = Selector.cacheHits();
+        assertSame(eval, Selector.compile(query));
+        assertSame(eval, QueryParser.parse(query));
+        assertEquals(hits + 2, Selector.cacheHits());
+
+        Document doc = Jsoup.parse("<div class=compiled><p>One</p><p><span>Two</span></p></div>");
+        long misses = Selector.cacheMisses();
+        assertEquals(doc.select(eval), doc.select(query));
+        assertEquals("Two", doc.selectFirst(query).text());
+        assertEquals(misses, Selector.cacheMisses());
+    }
+
+    @Test public void invalidQueriesAreNotCached() {
+        long misses = Selector.cacheMisses();
+        assertThrows(Selector.SelectorParseException.class, () -> Selector.compile("div:nope"));
+        assertThrows(Selector.SelectorParseException.class, () -> Selector.compile("div:nope"));
+        assertEquals(misses + 2, Selector.cacheMisses());
+    }
+
+    @Test public void queryCacheIsBounded() {
+        QueryCache cache = new QueryCache(2);
+        Evaluator a = QueryParser.parse("a");
+        cache.put("a", a);
+        cache.put("b", QueryParser.parse("b"));
+        assertSame(a, cache.get("a")); // a is now most recently used
+        cache.put("c", QueryParser.parse("c"));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("c"));
+        assertEquals(3, cache.hits());
+        assertEquals(1, cache.misses());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.hits());
+    }
+
+    @Test public void compiledQueryIsThreadSafe() throws InterruptedException {
+        final Evaluator eval = Selector.compile("div:has(p:has(span.hit)) > p");
+        StringBuilder html = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            html.append("<div><p><span class=").append(i % 2 == 0 ? "hit" : "miss").append(">").append(i).append("</span></p></div>");
+        }
+        final Document doc = Jsoup.parse(html.toString());
+        final int expected = doc.select(eval).size();
+        assertEquals(50, expected);
+
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 100; i++) {
+                        assertEquals(expected, doc.select(eval).size());
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) thread.join();
+        assertNull(failure.get());
+    }
+
+    @Test public void selectAllInParallel() {
+        List<Element> docs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            docs.add(Jsoup.parse("<div><p class=a>" + i + "</p><p>x</p><p class=a>" + i + "b</p></div>"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Elements found = Selector.selectAll("p.a", docs, executor);
+            assertEquals(Selector.select("p.a", docs), found);
+            assertEquals(200, found.size());
+            assertEquals("0", found.get(0).text());
+            assertEquals("0b", found.get(1).text());
+            assertEquals("99b", found.last().text());
+
+            assertEquals(found, Selector.selectAll(Selector.compile("p.a"), docs));
+            assertEquals(0, Selector.selectAll("span", docs, executor).size());
+            assertEquals(0, Selector.selectAll("p", new ArrayList<>(), executor).size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test public void selectAllFromPoolWorkersDoesNotDeadlock() throws Exception {
+        List<Element> docs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            docs.add(Jsoup.parse("<p class=a>" + i));
+        }
+
+        // each of the pool's workers is running a select that forks its batches onto the same pool
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            List<ForkJoinTask<Integer>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+                tasks.add(pool.submit(() -> Selector.selectAll("p.a", docs, pool).size()));
+            for (ForkJoinTask<Integer> task : tasks)
+                assertEquals(100, task.get(10, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test public void selectAllRunsRejectedBatches() {
+        List<Element> docs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            docs.add(Jsoup.parse("<p class=a>" + i));
+        }
+        AtomicInteger submitted = new AtomicInteger();
+        Executor rejectsAfterTwo = command -> {
+            if (submitted.incrementAndGet() > 2) throw new RejectedExecutionException();
+            command.run();
+        };
+        assertEquals(Selector.select("p.a", docs), Selector.selectAll("p.a", docs, rejectsAfterTwo));
+        assertTrue(submitted.get() > 2);
+    }
+
+    @Test public void elementsSelectInParallelDedupesNestedRoots() {
+        Document doc = Jsoup.parse("<div id=1><div id=2><p>One</p></div><p>Two</p></div><div id=3><p>Three</p></div>");
+        Elements divs = doc.select("div");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Elements ps = divs.select("p", executor);
+            assertEquals(divs.select("p"), ps);
+            assertEquals("One Two Three", ps.text());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test public void selectAllPropagatesExceptions() {
+        List<Element> docs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            docs.add(Jsoup.parse("<p>" + i));
+        }
+        Evaluator failing = new Evaluator() {
+            @Override public boolean matches(Element root, Element element) {
+                if (element.text().equals("15")) throw new IllegalArgumentException("Fail at " + element.text());
+                return false;
+            }
+        };
+        // a direct executor (runs on the calling thread) is also valid
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> Selector.selectAll(failing, docs, Runnable::run));
+        assertEquals("Fail at 15", ex.getMessage());
+    }
+
+    @Test public void selectFromNestedRootsMatchesEachRoot() {
+        Document doc = Jsoup.parse("<div id=1><p>One <a id=a1>A</a></p><div id=2><a id=a2>B</a><div id=3><p><a id=a3>C</a>" +
+            "</p><p>Two</p></div><a id=a4>D</a></div></div><div id=4><a id=a5>E</a></div>");
+        Elements roots = doc.select("div");
+        assertEquals(4, roots.size());
+        roots.add(roots.get(1)); // a duplicate root
+
+        String[] queries = {"a", "div a", "p a, div > a", "> a", ":root", "a:not(div div a)", "p ~ p", "p + p",
+            "div:has(p)", "p:nth-child(2)", "div div div", "[id]:not(p)", "a:contains(c)"};
+        for (String query : queries) {
+            // reference: the union of each root's select, deduped by identity
+            Evaluator eval = QueryParser.parse(query);
+            Elements expected = new Elements();
+            IdentityHashMap<Element, Boolean> seen = new IdentityHashMap<>();
+            for (Element root : roots) {
+                for (Element el : Collector.collect(eval, root)) {
+                    if (seen.put(el, Boolean.TRUE) == null)
+                        expected.add(el);
+                }
+            }
+            assertEquals(expected, roots.select(query), query);
+        }
+        assertEquals("a1 a2 a3 a4 a5", roots.select("a").eachAttr("id").stream().collect(Collectors.joining(" ")));
+        assertEquals("a2 a4 a5", roots.select("> a").eachAttr("id").stream().collect(Collectors.joining(" ")));
+    }
+
+    @Test public void selectFromRootsOutOfDocumentOrderKeepsRootOrder() {
+        Document doc = Jsoup.parse("<div id=1><a id=a1></a><div id=2><a id=a2></a></div></div>");
+        Elements roots = new Elements(doc.getElementById("2"), doc.getElementById("1"));
+        assertEquals("a2 a1", String.join(" ", roots.select("a").eachAttr("id")));
+        assertEquals("a2 a1", String.join(" ", roots.select("> a").eachAttr("id")));
+        assertEquals("a2 a1", String.join(" ", roots.select("div a").eachAttr("id")));
+        assertEquals("a2 a1", String.join(" ", Selector.selectAll("a", roots, Runnable::run).eachAttr("id")));
+
+        Elements inOrder = new Elements(doc.getElementById("1"), doc.getElementById("2"));
+        assertEquals("a1 a2", String.join(" ", inOrder.select("a").eachAttr("id")));
+        assertEquals("a1 a2", String.join(" ", inOrder.select("> a").eachAttr("id")));
+    }
+
+    @Test public void findsOutermostRoots() {
+        Document doc = Jsoup.parse("<div id=1><div id=2><div id=3></div></div></div><div id=4><p><div id=5></div></p></div>");
+        Elements divs = doc.select("div");
+        List<Element> roots = new ArrayList<>(divs);
+        roots.add(divs.get(3)); // duplicate
+        List<Element> outermost = Selector.outermostRoots(roots);
+        assertNotNull(outermost);
+        assertEquals(2, outermost.size());
+        assertSame(divs.get(0), outermost.get(0));
+        assertSame(divs.get(3), outermost.get(1));
+
+        roots.add(0, divs.get(2)); // nested, and before the roots it is within
+        assertNull(Selector.outermostRoots(roots));
+
+        assertTrue(Selector.isRootMonotone(QueryParser.parse("div p a")));
+        assertTrue(Selector.isRootMonotone(QueryParser.parse("a:not(.foo), p ~ a")));
+        assertFalse(Selector.isRootMonotone(QueryParser.parse("> a")));
+        assertFalse(Selector.isRootMonotone(QueryParser.parse("a:not(div a)")));
+    }
+
+    @Test public void textQueriesMatchAsElementText() {
+        Document doc = Jsoup.parse("<div><p>Price: <b>$10</b></p><div> <span>Pri</span>ce <i>N/A</i></div></div>" +
+            "<div><pre>  price\n  $20</pre><ul><li>PRICE<li>cost</ul></div><p>Nothing</p><p>pri<br>ce</p>");
+        String[] queries = {"div:contains(price)", ":contains(price)", "p:contains(price) b", "div:has(:contains(\\$20))",
+            "div:contains(price):not(:contains(n/a))", ":matches(\\$\\d+)", "li:matches((?i)^price$)", "div:contains(price), :matches(cost)",
+            ":containsOwn(price)", "div:contains(price) > :matches(price)"};
+        assertSelectsAsEvaluated(doc, queries); // evaluated outside of a select, so without its text index
+        assertEquals("$10", doc.selectFirst(":matches(\\$\\d+)").select("b").text());
+    }
+
+    @Test public void combinatorQueriesMatchAsEvaluated() {
+        // the ancestor filter must only reject elements that the structural evaluators would
+        Document doc = Jsoup.parse("<div class=content id=main><section><p>One <a href=1>a1</a></p><ul><li><a href=2>a2</a>" +
+            "<li class=content><a>a3</a></ul></section></div><div><p class=content><span><a href=4>a4</a></span></p>" +
+            "<p>Two</p><a href=5>a5</a></div><section class=content><div><p id=x><a href=6>a6</a></p></div></section>");
+        String[] queries = {"div.content a[href]", "div p a", "section p a", "#main li > a", "div > p ~ a", "p + a",
+            "div p ~ a", ".content .content a", "section div p a", "div:has(p a)", "div:has(span a):has(> p)", "li.content a",
+            "div a, section a", "p:not(div p)", "div > p > span > a", "body > div a", "div#main a[href=2]", "section ~ div a",
+            ".CONTENT a", "#main p a", "div:has(> p > a)", "section:has(div p a)", "div:has(a:not(span a))", "a", "div"};
+        for (Element root : doc.getAllElements())
+            assertSelectsAsEvaluated(root, queries);
+        assertEquals("a2 a3", doc.select("section li a").eachText().stream().collect(Collectors.joining(" ")));
+        assertEquals(3, doc.select("div:has(p a)").size());
+        assertEquals("a4", doc.select("div:has(span a):has(> p)").select("a").first().text());
+        assertEquals("a1", doc.selectFirst("div.content a[href]").text());
+    }
+
+    @Test public void selectManyInOneTraversal() {
+        String html = "<div class=content id=main><p>One <a href=1>a1</a></p><ul><li><a href=2>a2</a><li class=x><a>a3</a>" +
+            "</ul></div><div><p>Two <b>price</b> <img src=i.png></p><a href=5>a5</a></div>";
+        String[] queries = {"a[href]", "div a", "li > a", "p", "div.content a", ".x", "#main", "p:contains(price)",
+            "div:has(img)", "a:not([href])", "img, b", "*", "section a"};
+        for (boolean indexed : new boolean[] {false, true}) {
+            Document doc = Jsoup.parse(html);
+            doc.indexed(indexed);
+            Map<String, Evaluator> evals = new LinkedHashMap<>();
+            for (String query : queries)
+                evals.put(query, Selector.compile(query));
+
+            Map<String, Elements> found = Selector.selectMany(evals, doc.body());
+            assertEquals(Arrays.asList(queries), new ArrayList<>(found.keySet()));
+            for (String query : queries)
+                assertEquals(evaluated(doc.body(), query), found.get(query), query);
+        }
+
+        // :matchText wraps text nodes as it evaluates, so compare against a select of a separate document
+        Map<String, Evaluator> matchText = Collections.singletonMap("p:matchText", Selector.compile("p:matchText"));
+        assertEquals(Jsoup.parse(html).body().select("p:matchText").outerHtml(),
+            Selector.selectMany(matchText, Jsoup.parse(html).body()).get("p:matchText").outerHtml());
+
+        Document doc = Jsoup.parse(html);
+        Map<String, Evaluator> evals = new LinkedHashMap<>();
+        evals.put("links", Selector.compile("a[href]"));
+        evals.put("none", Selector.compile("section"));
+        Map<String, Elements> found = Selector.selectMany(evals, doc.selectFirst("ul"));
+        assertEquals("a2", found.get("links").text());
+        assertTrue(found.get("none").isEmpty());
+    }
+
+    @Test public void notFiltersByIdentity() {
+        Document doc = Jsoup.parse("<p>One</p><p>One</p><p class=x>One</p>");
+        Elements ps = doc.select("p");
+        Elements notX = ps.not(".x");
+        assertEquals(2, notX.size());
+        assertSame(ps.get(0), notX.get(0));
+        assertSame(ps.get(1), notX.get(1));
+    }
+
+    /**
+     Asserts that select and selectFirst from the root find the same elements as each query's evaluator matches when
+     tested against every element under the root, outside of a select.
+     */
+    private static void assertSelectsAsEvaluated(Element root, String... queries) {
+        for (String query : queries) {
+            Elements expected = evaluated(root, query);
+            assertEquals(expected, root.select(query), query);
+            assertSame(expected.isEmpty() ? null : expected.first(), root.selectFirst(query), query);
+        }
+    }
+
+    private static Elements evaluated(Element root, String query) {
+        Evaluator eval = QueryParser.parse(query);
+        Elements matched = new Elements();
+        for (Element el : root.getAllElements()) {
+            if (eval.matches(root, el))
+                matched.add(el);
+        }
+        return matched;
+    }
 }